@@ -0,0 +1,132 @@
+package com.github.nylle.javaseq;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xss16m", "-Xmx4g"})
+@State(Scope.Thread)
+public class SeqBenchmark {
+
+    @Param({"ArraySeq", "StringSeq", "ChunkedCons", "Cons", "LazySeq", "RangeSeq"})
+    public String impl;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    private Object[] items;
+    private String chars;
+    private ISeq<Object> cons;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        items = new Object[size];
+        var sb = new StringBuilder(size);
+        for (int i = 0; i < size; i++) {
+            items[i] = i;
+            sb.append((char) ('a' + i % 26));
+        }
+        chars = sb.toString();
+        cons = ISeq.of();
+        for (int i = size - 1; i >= 0; i--) {
+            cons = Util.cons(items[i], cons);
+        }
+    }
+
+    /**
+     * Returns a seq over the benchmark data of the selected implementation. Seqs that cache on realization
+     * (chunked and lazy ones) are built anew, so that every invocation measures realization and not only traversal.
+     */
+    @SuppressWarnings("unchecked")
+    private ISeq<Object> seq() {
+        return switch (impl) {
+            case "ArraySeq" -> Util.arraySeq(items);
+            case "StringSeq" -> (ISeq<Object>) (ISeq<?>) Util.stringSeq(chars);
+            case "ChunkedCons" -> Util.chunkIteratorSeq(Arrays.asList(items).iterator());
+            case "Cons" -> cons;
+            case "LazySeq" -> lazySeq(0);
+            case "RangeSeq" -> (ISeq<Object>) (ISeq<?>) ISeq.range(size);
+            default -> throw new IllegalArgumentException("unknown impl: " + impl);
+        };
+    }
+
+    private ISeq<Object> lazySeq(int i) {
+        return Util.lazySeq(() -> i < size ? Util.cons(items[i], lazySeq(i + 1)) : ISeq.of());
+    }
+
+    private static void consume(ISeq<?> seq, Blackhole bh) {
+        for (var x : seq) {
+            bh.consume(x);
+        }
+    }
+
+    @Benchmark
+    public void map(Blackhole bh) {
+        consume(seq().map(x -> x.hashCode() + 1), bh);
+    }
+
+    @Benchmark
+    public void filter(Blackhole bh) {
+        consume(seq().filter(x -> x.hashCode() % 2 == 0), bh);
+    }
+
+    @Benchmark
+    public void take(Blackhole bh) {
+        consume(seq().take(size / 2), bh);
+    }
+
+    @Benchmark
+    public void drop(Blackhole bh) {
+        consume(seq().drop(size / 2), bh);
+    }
+
+    @Benchmark
+    public int reduce() {
+        return seq().reduce(0, (acc, x) -> acc + x.hashCode());
+    }
+
+    @Benchmark
+    public void partition(Blackhole bh) {
+        for (var part : seq().partition(8)) {
+            consume(part, bh);
+        }
+    }
+
+    @Benchmark
+    public void distinct(Blackhole bh) {
+        consume(seq().distinct(), bh);
+    }
+
+    @Benchmark
+    public void sorted(Blackhole bh) {
+        consume(seq().sorted(Comparator.comparingInt(x -> -x.hashCode())), bh);
+    }
+
+    @Benchmark
+    public int count() {
+        return seq().count();
+    }
+
+    @Benchmark
+    public Object nth() {
+        return seq().nth(size - 1);
+    }
+}
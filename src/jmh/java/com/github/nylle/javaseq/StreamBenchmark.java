@@ -0,0 +1,109 @@
+package com.github.nylle.javaseq;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Baseline for {@link SeqBenchmark}: the same operations on a {@code java.util.stream.Stream} over an
+ * {@code ArrayList}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xss16m", "-Xmx4g"})
+@State(Scope.Thread)
+public class StreamBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    private List<Object> items;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(i);
+        }
+    }
+
+    private Stream<Object> stream() {
+        return items.stream();
+    }
+
+    @Benchmark
+    public void map(Blackhole bh) {
+        stream().map(x -> x.hashCode() + 1).forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void filter(Blackhole bh) {
+        stream().filter(x -> x.hashCode() % 2 == 0).forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void take(Blackhole bh) {
+        stream().limit(size / 2).forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void drop(Blackhole bh) {
+        stream().skip(size / 2).forEach(bh::consume);
+    }
+
+    @Benchmark
+    public int reduce() {
+        return stream().reduce(0, (acc, x) -> acc + x.hashCode(), Integer::sum);
+    }
+
+    @Benchmark
+    public void partition(Blackhole bh) {
+        var it = stream().iterator();
+        var part = new ArrayList<>(8);
+        while (it.hasNext()) {
+            part.add(it.next());
+            if (part.size() == 8) {
+                part.forEach(bh::consume);
+                part = new ArrayList<>(8);
+            }
+        }
+    }
+
+    @Benchmark
+    public void distinct(Blackhole bh) {
+        stream().distinct().forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void sorted(Blackhole bh) {
+        stream().sorted(Comparator.comparingInt(x -> -x.hashCode())).forEach(bh::consume);
+    }
+
+    @Benchmark
+    public long count() {
+        return stream().count();
+    }
+
+    @Benchmark
+    public Object nth() {
+        return stream().skip(size - 1).findFirst().orElseThrow();
+    }
+}
@@ -3,9 +3,11 @@ package com.github.nylle.javaseq;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Objects;
 import java.util.function.IntFunction;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
@@ -78,15 +80,35 @@ public abstract class AList<T> implements List<T> {
     }
 
     public boolean containsAll(Collection<?> c) {
-        return reify().containsAll(c);
+        var missing = new HashSet<Object>(c);
+        var iterator = iterator();
+        while (!missing.isEmpty() && iterator.hasNext()) {
+            missing.remove(iterator.next());
+        }
+        return missing.isEmpty();
     }
 
     public int indexOf(Object o) {
-        return reify().indexOf(o);
+        var i = 0;
+        for (var x : this) {
+            if (Objects.equals(o, x)) {
+                return i;
+            }
+            i++;
+        }
+        return -1;
     }
 
     public int lastIndexOf(Object o) {
-        return reify().lastIndexOf(o);
+        var result = -1;
+        var i = 0;
+        for (var x : this) {
+            if (Objects.equals(o, x)) {
+                result = i;
+            }
+            i++;
+        }
+        return result;
     }
 
     public ListIterator<T> listIterator() {
@@ -172,7 +194,7 @@ public abstract class AList<T> implements List<T> {
     // java.util.Collection
 
     public boolean contains(Object o) {
-        return reify().contains(o);
+        return indexOf(o) >= 0;
     }
 
     public boolean removeIf(Predicate<? super T> filter) {
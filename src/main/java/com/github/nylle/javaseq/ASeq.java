@@ -1,25 +1,46 @@
 package com.github.nylle.javaseq;
 
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 public abstract class ASeq<T> extends AList<T> implements ISeq<T> {
 
+    private static final int CAPACITY = 32;
+    private static final int MAX_STRING_CAPACITY = Integer.MAX_VALUE - 8;
+    private static final int FOLD_SIZE = 512;
+
+    private int hash;
+    private List<T> reified;
+
     public T second() {
         return nth(1, (T)null);
     }
@@ -55,6 +76,20 @@ public abstract class ASeq<T> extends AList<T> implements ISeq<T> {
         });
     }
 
+    public <R> ISeq<R> keep(Function<? super T, ? extends R> f) {
+        return ISeq.lazySeq(() -> {
+            ISeq<T> s = this;
+            while (!s.isEmpty()) {
+                var x = f.apply(s.first());
+                if (x != null) {
+                    return ISeq.cons(x, s.rest().keep(f));
+                }
+                s = s.rest();
+            }
+            return ISeq.of();
+        });
+    }
+
     public <R> ISeq<R> map(Function<? super T, ? extends R> f) {
         return ISeq.lazySeq(() -> {
             if (!isEmpty()) {
@@ -92,8 +127,13 @@ public abstract class ASeq<T> extends AList<T> implements ISeq<T> {
 
     public <R> ISeq<R> mapcat(Function<? super T, ? extends Iterable<? extends R>> f) {
         return ISeq.lazySeq(() -> {
-            if (!isEmpty()) {
-                return Util.concat(f.apply(first()).iterator(), rest().mapcat(f));
+            ISeq<T> s = this;
+            while (!s.isEmpty()) {
+                var coll = f.apply(s.first());
+                s = s.rest();
+                if (!isKnownEmpty(coll)) {
+                    return Util.chunkedConcat(coll, s.mapcat(f));
+                }
             }
             return ISeq.of();
         });
@@ -103,12 +143,16 @@ public abstract class ASeq<T> extends AList<T> implements ISeq<T> {
         return ISeq.lazySeq(() -> {
             var s = ISeq.seq(coll);
             if (!isEmpty() && !s.isEmpty()) {
-                return Util.concat(f.apply(first(), s.first()).iterator(), rest().mapcat(s.rest(), f));
+                return Util.chunkedConcat(f.apply(first(), s.first()), rest().mapcat(s.rest(), f));
             }
             return ISeq.of();
         });
     }
 
+    private static boolean isKnownEmpty(Iterable<?> coll) {
+        return coll instanceof Collection<?> c && c.isEmpty();
+    }
+
     public <S, R> ISeq<R> mapcat(Iterator<? extends S> coll, BiFunction<? super T, ? super S, Iterable<? extends R>> f) {
         return mapcat(ISeq.seq(coll), f);
     }
@@ -125,6 +169,42 @@ public abstract class ASeq<T> extends AList<T> implements ISeq<T> {
         return mapcat(ISeq.seq(coll), f);
     }
 
+    public IntSeq mapToInt(ToIntFunction<? super T> f) {
+        var acc = new int[CAPACITY];
+        var n = 0;
+        for (var x : this) {
+            if (n == acc.length) {
+                acc = Arrays.copyOf(acc, n * 2);
+            }
+            acc[n++] = f.applyAsInt(x);
+        }
+        return new IntSeq(new IntChunk(acc, 0, n));
+    }
+
+    public LongSeq mapToLong(ToLongFunction<? super T> f) {
+        var acc = new long[CAPACITY];
+        var n = 0;
+        for (var x : this) {
+            if (n == acc.length) {
+                acc = Arrays.copyOf(acc, n * 2);
+            }
+            acc[n++] = f.applyAsLong(x);
+        }
+        return new LongSeq(new LongChunk(acc, 0, n));
+    }
+
+    public DoubleSeq mapToDouble(ToDoubleFunction<? super T> f) {
+        var acc = new double[CAPACITY];
+        var n = 0;
+        for (var x : this) {
+            if (n == acc.length) {
+                acc = Arrays.copyOf(acc, n * 2);
+            }
+            acc[n++] = f.applyAsDouble(x);
+        }
+        return new DoubleSeq(new DoubleChunk(acc, 0, n));
+    }
+
     public ISeq<T> take(long n) {
         return ISeq.lazySeq(() -> {
             if (n > 0 && !isEmpty()) {
@@ -176,6 +256,17 @@ public abstract class ASeq<T> extends AList<T> implements ISeq<T> {
     }
 
     public ISeq<ISeq<T>> partition(int n, int step, Iterable<T> pad) {
+        if (n > 0 && step > 0) {
+            return ISeq.lazySeq(() -> window(iterator(), new Object[0], 0, n, step, pad));
+        }
+        return slices(n, step, pad);
+    }
+
+    /**
+     * Partitions this seq with take and drop, which walks each item once for seqs that take and drop in constant time,
+     * and returns slices of this seq as partitions.
+     */
+    ISeq<ISeq<T>> slices(int n, int step, Iterable<T> pad) {
         return ISeq.lazySeq(() -> {
             if (n < 0 || isEmpty()) {
                 return ISeq.of();
@@ -193,6 +284,45 @@ public abstract class ASeq<T> extends AList<T> implements ISeq<T> {
         });
     }
 
+    /**
+     * Returns the partitions starting with the items in carry, after skipping skip items of the iterator. Each item is
+     * read from the iterator once and items shared by overlapping partitions are carried over to the next partition.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> ISeq<ISeq<T>> window(Iterator<T> iterator, Object[] carry, int skip, int n, int step, Iterable<T> pad) {
+        for (int i = 0; i < skip; i++) {
+            if (!iterator.hasNext()) {
+                return ISeq.of();
+            }
+            iterator.next();
+        }
+        var acc = Arrays.copyOf(carry, Math.min(n, Math.max(carry.length, CAPACITY)));
+        var count = carry.length;
+        while (count < n && iterator.hasNext()) {
+            if (count == acc.length) {
+                acc = Arrays.copyOf(acc, (int) Math.min(n, 2L * count));
+            }
+            acc[count++] = iterator.next();
+        }
+        if (count == 0 || (count < n && pad == null)) {
+            return ISeq.of();
+        }
+        var end = count;
+        if (count < n) {
+            var padding = pad.iterator();
+            while (end < n && padding.hasNext()) {
+                if (end == acc.length) {
+                    acc = Arrays.copyOf(acc, (int) Math.min(n, 2L * end));
+                }
+                acc[end++] = padding.next();
+            }
+        }
+        var part = new ArraySeq<>((T[]) acc, 0, end);
+        var next = step < count ? Arrays.copyOfRange(acc, step, count) : new Object[0];
+        var nextSkip = Math.max(0, step - count);
+        return ISeq.cons(part, ISeq.lazySeq(() -> window(iterator, next, nextSkip, n, step, pad)));
+    }
+
     public ISeq<ISeq<T>> partitionAll(int n) {
         return partition(n, n, List.of());
     }
@@ -236,6 +366,29 @@ public abstract class ASeq<T> extends AList<T> implements ISeq<T> {
         return result;
     }
 
+    public <R, U> U transduce(ITransducer<T, R> xform, U init, BiFunction<U, ? super R, U> f) {
+        try {
+            return reduce(init, ATransducer.apply(xform, f));
+        } catch (Reduced ex) {
+            return ex.value();
+        }
+    }
+
+    public <R> ISeq<R> sequence(ITransducer<T, R> xform) {
+        return Util.sequence(xform, this);
+    }
+
+    public <U> U fold(Supplier<U> init, BinaryOperator<U> combine, BiFunction<U, ? super T, U> reduce) {
+        return fold(FOLD_SIZE, init, combine, reduce);
+    }
+
+    public <U> U fold(int n, Supplier<U> init, BinaryOperator<U> combine, BiFunction<U, ? super T, U> reduce) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be greater than 0");
+        }
+        return reduce(init.get(), reduce);
+    }
+
     public void run(Consumer<? super T> proc) {
         reduce(ISeq.of(), (a, b) -> {
             proc.accept(b);
@@ -244,17 +397,47 @@ public abstract class ASeq<T> extends AList<T> implements ISeq<T> {
     }
 
     public ISeq<T> distinct() {
-        return step(this, new HashSet<>());
+        return distinct(this, x -> x, PersistentHashSet.empty());
     }
 
-    private static <T> ISeq<T> step(final ISeq<T> seq, final Set<T> seen) {
+    public <K> ISeq<T> distinctBy(Function<? super T, ? extends K> f) {
+        return distinct(this, f, PersistentHashSet.empty());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, K> ISeq<T> distinct(ISeq<T> seq, Function<? super T, ? extends K> f, PersistentHashSet<K> seen) {
         return ISeq.lazySeq(() -> {
-            var result = seq.filter(x -> !seen.contains(x));
-            if (result.isEmpty()) {
-                return ISeq.of();
+            var s = seq;
+            var keys = seen;
+            while (true) {
+                s = LazySeq.unwrap(s);
+                if (s.isEmpty()) {
+                    return ISeq.of();
+                }
+                if (s instanceof IChunkedSeq<T> chunkedSeq) {
+                    var chunk = chunkedSeq.chunkedFirst();
+                    var acc = new ArrayList<T>();
+                    for (int i = 0; i < chunk.count(); i++) {
+                        var x = chunk.nth(i);
+                        var next = keys.conj(f.apply(x));
+                        if (next != keys) {
+                            keys = next;
+                            acc.add(x);
+                        }
+                    }
+                    s = chunkedSeq.chunkedMore();
+                    if (!acc.isEmpty()) {
+                        return new ChunkedCons<>(new ArrayChunk<>((T[]) acc.toArray()), distinct(s, f, keys));
+                    }
+                } else {
+                    var x = s.first();
+                    var next = keys.conj(f.apply(x));
+                    if (next != keys) {
+                        return ISeq.cons(x, distinct(s.rest(), f, next));
+                    }
+                    s = s.rest();
+                }
             }
-            var first = result.first();
-            return ISeq.cons(first, step(result.rest(), Util.conj(seen, first)));
         });
     }
 
@@ -263,10 +446,16 @@ public abstract class ASeq<T> extends AList<T> implements ISeq<T> {
         return sorted((o1, o2) -> ((Comparable<T>) o1).compareTo(o2));
     }
 
+    @SuppressWarnings("unchecked")
     public ISeq<T> sorted(Comparator<? super T> comp) {
-        var result = new ArrayList<>(this);
-        result.sort(comp);
-        return ISeq.seq(result);
+        var result = (T[]) toArray();
+        Arrays.sort(result, comp);
+        return Util.arraySeq(result);
+    }
+
+    public ISeq<T> sortedExternal(Comparator<? super T> comp, ISerializer<T> serializer, int maxInMemory) {
+        // the lazy seq must not hold on to the head of this seq while it is sorted
+        return new ExternalSort<>(comp, serializer, maxInMemory).lazySort(iterator());
     }
 
     public ISeq<T> reverse() {
@@ -279,11 +468,38 @@ public abstract class ASeq<T> extends AList<T> implements ISeq<T> {
     }
 
     public boolean some(Predicate<? super T> pred) {
-        return !isEmpty() && (pred.test(first()) || rest().some(pred));
+        ISeq<T> s = this;
+        while (!s.isEmpty()) {
+            if (s != this && isTraversable(s)) {
+                return s.some(pred);
+            }
+            if (pred.test(s.first())) {
+                return true;
+            }
+            s = s.rest();
+        }
+        return false;
     }
 
     public boolean every(Predicate<? super T> pred) {
-        return isEmpty() || pred.test(first()) && rest().every(pred);
+        ISeq<T> s = this;
+        while (!s.isEmpty()) {
+            if (s != this && isTraversable(s)) {
+                return s.every(pred);
+            }
+            if (!pred.test(s.first())) {
+                return false;
+            }
+            s = s.rest();
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if seq implements its own loop over its items, which is faster than walking it with first and rest.
+     */
+    private static boolean isTraversable(ISeq<?> seq) {
+        return seq instanceof ICounted || seq instanceof ChunkedCons<?>;
     }
 
     public boolean notAny(Predicate<? super T> pred) {
@@ -323,31 +539,83 @@ public abstract class ASeq<T> extends AList<T> implements ISeq<T> {
     }
 
     protected T nth(int index, Supplier<T> notFound) {
-        if (index < 0 || isEmpty()) {
+        if (index < 0) {
             return notFound.get();
         }
         ISeq<T> s = this;
-        for (int i = index; i > 0; --i) {
-            if (s.rest().isEmpty()) {
-                return notFound.get();
+        for (int i = index; !s.isEmpty(); --i) {
+            if (i == 0) {
+                return s.first();
             }
-            s = s.rest();
+            if (s != this && isTraversable(s)) {
+                return ((ASeq<T>) s).nth(i, notFound);
+            }
+            s = LazySeq.unwrap(s.rest());
         }
-        return s.first();
+        return notFound.get();
     }
 
     public String str() {
-        return reduce("", (a, b) -> a + b);
+        return join("", "", "");
+    }
+
+    public String join(CharSequence separator, CharSequence prefix, CharSequence suffix) {
+        var capacity = prefix.length() + estimateLength(separator) + suffix.length();
+        var sb = new StringBuilder((int) Math.min(MAX_STRING_CAPACITY, capacity));
+        return appendTo(sb.append(prefix), separator).append(suffix).toString();
+    }
+
+    long estimateLength(CharSequence separator) {
+        return 16;
+    }
+
+    StringBuilder appendTo(StringBuilder sb, CharSequence separator) {
+        if (isEmpty()) {
+            return sb;
+        }
+        sb.append(first());
+        return rest().reduce(sb, (acc, x) -> acc.append(separator).append(x));
+    }
+
+    public void writeTo(Writer writer) {
+        var sink = CharSink.of(writer);
+        writeTo(sink);
+        sink.close();
+    }
+
+    public void writeTo(OutputStream out, Charset charset) {
+        writeTo(out instanceof FileOutputStream fileOut ? fileOut.getChannel() : Channels.newChannel(out), charset);
+        try {
+            out.flush();
+        } catch (IOException ex) {
+            throw new IllegalStateException("unexpected IO error", ex);
+        }
+    }
+
+    public void writeTo(WritableByteChannel channel, Charset charset) {
+        var sink = new ChannelEncoder(channel, charset);
+        writeTo(sink);
+        sink.close();
+    }
+
+    CharSink writeTo(CharSink sink) {
+        return reduce(sink, CharSink::append);
     }
 
     public int count() {
         var i = 0;
         ISeq<T> seq = this;
-        while (!seq.isEmpty()) {
-            i++;
-            seq = seq.drop(1);
+        while (!(seq instanceof ICounted || seq instanceof ChunkedCons<T>)) {
+            if (seq instanceof LazySeq<T> lazySeq) {
+                seq = lazySeq.seq();
+            } else if (seq.isEmpty()) {
+                return i;
+            } else {
+                i++;
+                seq = seq.rest();
+            }
         }
-        return i;
+        return i + seq.count();
     }
 
     public Optional<T> find(int i) {
@@ -371,23 +639,47 @@ public abstract class ASeq<T> extends AList<T> implements ISeq<T> {
     }
 
     public <K, V> Map<K, V> toMap(Function<T, K> k, Function<T, V> v) {
-        return Map.ofEntries(map(x -> Map.entry(k.apply(x), v.apply(x))).toArray(new Map.Entry[0]));
+        var result = new HashMap<K, V>();
+        run(x -> {
+            var key = Objects.requireNonNull(k.apply(x));
+            if (result.putIfAbsent(key, Objects.requireNonNull(v.apply(x))) != null) {
+                throw new IllegalArgumentException("duplicate key: " + key);
+            }
+        });
+        return Collections.unmodifiableMap(result);
     }
 
     public <K, V> Map<K, V> toMap(Function<T, K> k, Function<T, V> v, BinaryOperator<V> m) {
-        var entries = this
-                .map(x -> Map.entry(k.apply(x), v.apply(x)))
-                .reduce(
-                        ISeq.<Map.Entry<K, V>>of(),
-                        (acc, x) -> acc
-                                .filter(y -> !x.getKey().equals(y.getKey()))
-                                .cons(acc.findFirst(y -> y.getKey().equals(x.getKey())).map(y -> Map.entry(x.getKey(), m.apply(y.getValue(), x.getValue()))).orElse(x)));
+        return Collections.unmodifiableMap(toMap(k, v, m, HashMap::new));
+    }
+
+    public <K, V, M extends Map<K, V>> M toMap(Function<T, K> k, Function<T, V> v, BinaryOperator<V> m, Supplier<M> factory) {
+        var result = factory.get();
+        run(x -> result.merge(Objects.requireNonNull(k.apply(x)), v.apply(x), m));
+        return result;
+    }
 
-        return Map.ofEntries(entries.toArray(new Map.Entry[0]));
+    public <K> Map<K, List<T>> groupBy(Function<? super T, ? extends K> f) {
+        var result = new HashMap<K, List<T>>();
+        run(x -> result.computeIfAbsent(f.apply(x), key -> new ArrayList<>()).add(x));
+        result.replaceAll((key, xs) -> Collections.unmodifiableList(xs));
+        return Collections.unmodifiableMap(result);
     }
 
+    public Map<T, Long> frequencies() {
+        var result = new HashMap<T, Long>();
+        run(x -> result.merge(x, 1L, Long::sum));
+        return Collections.unmodifiableMap(result);
+    }
+
+    @SuppressWarnings("unchecked")
     public List<T> reify() {
-        return List.copyOf(this);
+        var result = reified;
+        if (result == null) {
+            result = Collections.unmodifiableList(Arrays.asList((T[]) toArray()));
+            reified = result;
+        }
+        return result;
     }
 
 
@@ -423,7 +715,7 @@ public abstract class ASeq<T> extends AList<T> implements ISeq<T> {
 
     @Override
     public Spliterator<T> spliterator() {
-        return ((Iterable<T>) () -> iterator()).spliterator();
+        return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
     }
 
 
@@ -431,12 +723,12 @@ public abstract class ASeq<T> extends AList<T> implements ISeq<T> {
 
     @Override
     public Stream<T> stream() {
-        return StreamSupport.stream(((Iterable<T>) () -> iterator()).spliterator(), false);
+        return StreamSupport.stream(spliterator(), false);
     }
 
     @Override
     public Stream<T> parallelStream() {
-        return stream();
+        return StreamSupport.stream(spliterator(), true);
     }
 
 
@@ -466,15 +758,61 @@ public abstract class ASeq<T> extends AList<T> implements ISeq<T> {
         if (this == o) return true;
         if (!(o instanceof ISeq)) return false;
 
-        var other = (ISeq) o;
-        return isEmpty() && other.isEmpty() || !other.isEmpty() &&
-                first().equals(other.first()) &&
-                rest().equals(other.rest());
+        ISeq<?> s = this;
+        ISeq<?> other = (ISeq<?>) o;
+        if (s instanceof ICounted && other instanceof ICounted && s.count() != other.count()) {
+            return false;
+        }
+        while (s != other) {
+            if (s instanceof ASeq<?> a && other instanceof ASeq<?> b && a.hash != 0 && b.hash != 0 && a.hash != b.hash) {
+                return false;
+            }
+            if (s.isEmpty() || other.isEmpty()) {
+                return s.isEmpty() && other.isEmpty();
+            }
+            if (!Objects.equals(s.first(), other.first())) {
+                return false;
+            }
+            s = s.rest();
+            other = other.rest();
+        }
+        return true;
     }
 
+    /**
+     * Returns true if the hash code of this seq may be cached. Only the nodes built by this library are immutable once
+     * realized, other seqs (e.g. {@link ArraySeq} and {@link StringSeq}) may view arrays or character sequences that
+     * are changed by the caller.
+     */
+    boolean cachesHashCode() {
+        return false;
+    }
+
+    /**
+     * Returns the sum of the hash codes of the items multiplied by 31 to the power of their index. The hash code is
+     * cached by seqs that never change once realized, as it requires the seq to be fully realized.
+     */
     @Override
     public int hashCode() {
-        return isEmpty() ? 0 : first().hashCode() + rest().hashCode() * 31;
+        if (hash == 0) {
+            var result = 0;
+            var factor = 1;
+            ISeq<T> s = this;
+            while (!s.isEmpty()) {
+                if (s != this && s instanceof ASeq<T> aSeq && aSeq.hash != 0) {
+                    result += factor * aSeq.hash;
+                    break;
+                }
+                result += factor * Objects.hashCode(s.first());
+                factor *= 31;
+                s = s.rest();
+            }
+            if (!cachesHashCode()) {
+                return result;
+            }
+            hash = result;
+        }
+        return hash;
     }
 }
 
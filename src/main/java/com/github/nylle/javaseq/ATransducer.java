@@ -0,0 +1,154 @@
+package com.github.nylle.javaseq;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Implements the steps of {@link ITransducer}. Early termination (e.g. by {@link #take}) throws {@link Reduced}, which
+ * never leaves the transducing context, since only {@link ISeq#transduce} and {@link ISeq#sequence} call
+ * {@link #apply}.
+ */
+abstract non-sealed class ATransducer<T, R> implements ITransducer<T, R> {
+
+    /**
+     * Returns a reducing function accepting items of type {@code T}, which passes transformed items on to {@code rf}.
+     * Stateful transducers (e.g. {@link #take}) create new state each time this method is called.
+     */
+    abstract <A> BiFunction<A, T, A> apply(BiFunction<A, ? super R, A> rf);
+
+    /**
+     * Returns the reducing function of {@code xform} transforming {@code rf}.
+     */
+    static <T, R, A> BiFunction<A, T, A> apply(ITransducer<T, R> xform, BiFunction<A, ? super R, A> rf) {
+        return ((ATransducer<T, R>) xform).apply(rf);
+    }
+
+    @Override
+    public <S> ITransducer<T, S> comp(ITransducer<R, S> next) {
+        var self = this;
+        return new ATransducer<>() {
+            @Override
+            <A> BiFunction<A, T, A> apply(BiFunction<A, ? super S, A> rf) {
+                return self.apply(((ATransducer<R, S>) next).apply(rf));
+            }
+        };
+    }
+
+    @Override
+    public <S> ITransducer<T, S> map(Function<? super R, ? extends S> f) {
+        return comp(new ATransducer<R, S>() {
+            @Override
+            <A> BiFunction<A, R, A> apply(BiFunction<A, ? super S, A> rf) {
+                return (acc, x) -> rf.apply(acc, f.apply(x));
+            }
+        });
+    }
+
+    @Override
+    public ITransducer<T, R> filter(Predicate<? super R> pred) {
+        return comp(new ATransducer<R, R>() {
+            @Override
+            <A> BiFunction<A, R, A> apply(BiFunction<A, ? super R, A> rf) {
+                return (acc, x) -> pred.test(x) ? rf.apply(acc, x) : acc;
+            }
+        });
+    }
+
+    @Override
+    public <S> ITransducer<T, S> mapcat(Function<? super R, ? extends Iterable<? extends S>> f) {
+        return comp(new ATransducer<R, S>() {
+            @Override
+            <A> BiFunction<A, R, A> apply(BiFunction<A, ? super S, A> rf) {
+                return (acc, x) -> {
+                    var result = acc;
+                    for (S y : f.apply(x)) {
+                        result = rf.apply(result, y);
+                    }
+                    return result;
+                };
+            }
+        });
+    }
+
+    @Override
+    public ITransducer<T, R> take(long n) {
+        return comp(new ATransducer<R, R>() {
+            @Override
+            <A> BiFunction<A, R, A> apply(BiFunction<A, ? super R, A> rf) {
+                return new BiFunction<>() {
+                    private long taken = 0;
+
+                    @Override
+                    public A apply(A acc, R x) {
+                        if (taken >= n) {
+                            throw new Reduced(acc);
+                        }
+                        var result = rf.apply(acc, x);
+                        if (++taken >= n) {
+                            throw new Reduced(result);
+                        }
+                        return result;
+                    }
+                };
+            }
+        });
+    }
+
+    @Override
+    public ITransducer<T, R> drop(long n) {
+        return comp(new ATransducer<R, R>() {
+            @Override
+            <A> BiFunction<A, R, A> apply(BiFunction<A, ? super R, A> rf) {
+                return new BiFunction<>() {
+                    private long dropped = 0;
+
+                    @Override
+                    public A apply(A acc, R x) {
+                        if (dropped < n) {
+                            dropped++;
+                            return acc;
+                        }
+                        return rf.apply(acc, x);
+                    }
+                };
+            }
+        });
+    }
+
+    @Override
+    public ITransducer<T, R> takeWhile(Predicate<? super R> pred) {
+        return comp(new ATransducer<R, R>() {
+            @Override
+            <A> BiFunction<A, R, A> apply(BiFunction<A, ? super R, A> rf) {
+                return (acc, x) -> {
+                    if (!pred.test(x)) {
+                        throw new Reduced(acc);
+                    }
+                    return rf.apply(acc, x);
+                };
+            }
+        });
+    }
+
+    @Override
+    public ITransducer<T, R> dropWhile(Predicate<? super R> pred) {
+        return comp(new ATransducer<R, R>() {
+            @Override
+            <A> BiFunction<A, R, A> apply(BiFunction<A, ? super R, A> rf) {
+                return new BiFunction<>() {
+                    private boolean dropping = true;
+
+                    @Override
+                    public A apply(A acc, R x) {
+                        if (dropping && pred.test(x)) {
+                            return acc;
+                        }
+                        dropping = false;
+                        return rf.apply(acc, x);
+                    }
+                };
+            }
+        });
+    }
+}
@@ -36,6 +36,16 @@ public class ArrayChunk<T> implements IChunk<T> {
         return new ArrayChunk<>(array, offset, end - n);
     }
 
+    @Override
+    public IChunk<T> drop(int n) {
+        return new ArrayChunk<>(array, offset + n, end);
+    }
+
+    @Override
+    public IChunk<T> slice(int from, int to) {
+        return new ArrayChunk<>(array, offset + from, offset + to);
+    }
+
     @Override
     public int count() {
         return end - offset;
@@ -1,12 +1,20 @@
 package com.github.nylle.javaseq;
 
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
-public class ArraySeq<T> extends ASeq<T> implements ISeq<T> {
+public class ArraySeq<T> extends ASeq<T> implements IChunkedSeq<T>, ICounted {
+
+    private static final int CHUNK_SIZE = 32;
 
     private final T[] array;
     private final int index;
@@ -56,6 +64,20 @@ public class ArraySeq<T> extends ASeq<T> implements ISeq<T> {
         return ISeq.of();
     }
 
+    @Override
+    public IChunk<T> chunkedFirst() {
+        return new ArrayChunk<>(array, index, Math.min(end, index + CHUNK_SIZE));
+    }
+
+    @Override
+    public ISeq<T> chunkedMore() {
+        return drop(CHUNK_SIZE);
+    }
+
+    private ChunkedCons<T> chunked() {
+        return new ChunkedCons<>(chunkedFirst(), chunkedMore());
+    }
+
     @Override
     public boolean isRealized() {
         return true;
@@ -83,6 +105,26 @@ public class ArraySeq<T> extends ASeq<T> implements ISeq<T> {
         return this;
     }
 
+    @Override
+    public ISeq<T> filter(Predicate<? super T> pred) {
+        return chunked().filter(pred);
+    }
+
+    @Override
+    public <R> ISeq<R> map(Function<? super T, ? extends R> f) {
+        return chunked().map(f);
+    }
+
+    @Override
+    public <R> ISeq<R> keep(Function<? super T, ? extends R> f) {
+        return chunked().keep(f);
+    }
+
+    @Override
+    public ISeq<ISeq<T>> partition(int n, int step, Iterable<T> pad) {
+        return slices(n, step, pad);
+    }
+
     @Override
     public ISeq<T> takeWhile(Predicate<? super T> pred) {
         var newEnd = index;
@@ -125,6 +167,11 @@ public class ArraySeq<T> extends ASeq<T> implements ISeq<T> {
         return result;
     }
 
+    @Override
+    public <U> U fold(int n, Supplier<U> init, BinaryOperator<U> combine, BiFunction<U, ? super T, U> reduce) {
+        return Util.fold(this, n, init, combine, reduce);
+    }
+
     @Override
     public boolean some(Predicate<? super T> pred) {
         for (int i = index; i < end; i++) {
@@ -158,6 +205,21 @@ public class ArraySeq<T> extends ASeq<T> implements ISeq<T> {
         return count;
     }
 
+    @Override
+    public Iterator<T> iterator() {
+        return new IndexedIterator<>(i -> array[i], index, end);
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(array, index, end, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    long estimateLength(CharSequence separator) {
+        return (long) count * (separator.length() + 1);
+    }
+
     @Override
     public Object[] toArray() {
         var result = new Object[count];
@@ -165,6 +227,20 @@ public class ArraySeq<T> extends ASeq<T> implements ISeq<T> {
         return result;
     }
 
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, count);
+        if (fromIndex == toIndex) {
+            return ISeq.of();
+        }
+        return new ArraySeq<>(array, index + fromIndex, index + toIndex);
+    }
+
     @Override
     public int indexOf(Object o) {
         for (int i = index; i < end; i++) {
@@ -0,0 +1,33 @@
+package com.github.nylle.javaseq;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+
+/**
+ * Decodes the bytes read from a channel into a single buffer that is reused for the whole channel.
+ */
+final class ChannelDecoder extends CharDecoder {
+
+    private static final int MIN_BUFFER_SIZE = 64;
+
+    private final ReadableByteChannel channel;
+
+    ChannelDecoder(ReadableByteChannel channel, Charset charset, int chunkSize) {
+        super(ByteBuffer.allocate(Math.max(MIN_BUFFER_SIZE, chunkSize)).flip(), charset, chunkSize);
+        this.channel = channel;
+    }
+
+    @Override
+    ByteBuffer read(ByteBuffer bytes) {
+        bytes.compact();
+        try {
+            return channel.read(bytes) < 0 ? null : bytes;
+        } catch (IOException ex) {
+            throw new IllegalStateException("unexpected IO error", ex);
+        } finally {
+            bytes.flip();
+        }
+    }
+}
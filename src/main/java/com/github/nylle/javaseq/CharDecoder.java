@@ -0,0 +1,85 @@
+package com.github.nylle.javaseq;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Decodes the bytes supplied by {@link #read} into chunks of characters. The decoder carries incomplete multi-byte
+ * sequences over from one buffer to the next, so characters are never split at buffer boundaries. Malformed input is
+ * replaced like in {@code new String(bytes, charset)}.
+ * <p>
+ * Instances are not thread-safe, but the lazy seq returned by {@link #seq()} realizes its chunks one after another.
+ */
+abstract class CharDecoder {
+
+    private final CharsetDecoder decoder;
+    private final int chunkSize;
+    private ByteBuffer bytes;
+    private boolean eof = false;
+    private boolean decoded = false;
+    private boolean flushed = false;
+
+    CharDecoder(ByteBuffer bytes, Charset charset, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunk size must be greater than 0");
+        }
+        this.decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.chunkSize = chunkSize;
+        this.bytes = bytes;
+    }
+
+    /**
+     * Returns a buffer containing the remaining bytes of {@code bytes} followed by more bytes, or null at the end of
+     * the input.
+     */
+    abstract ByteBuffer read(ByteBuffer bytes);
+
+    /**
+     * Returns a lazy seq of the decoded characters, which reads the next chunk only when the seq is realized past the
+     * previous one.
+     */
+    ISeq<Character> seq() {
+        return Util.lazySeq(() -> {
+            var chars = decode();
+            if (!chars.hasRemaining()) {
+                return Util.nil();
+            }
+            return new ChunkedCons<>(new StringChunk(chars, 0, chars.remaining()), seq());
+        });
+    }
+
+    /**
+     * Returns the next up to {@code chunkSize} characters, or an empty buffer once the input is exhausted.
+     */
+    CharBuffer decode() {
+        var chars = CharBuffer.allocate(Math.max(2, chunkSize)); // a surrogate pair is decoded at once
+        while (chars.hasRemaining() && !flushed) {
+            CoderResult result;
+            if (!eof) {
+                result = decoder.decode(bytes, chars, false);
+                if (result.isUnderflow()) {
+                    var next = read(bytes);
+                    eof = next == null;
+                    bytes = eof ? bytes : next;
+                    continue;
+                }
+            } else if (!decoded) {
+                result = decoder.decode(bytes, chars, true);
+                decoded = result.isUnderflow();
+            } else {
+                result = decoder.flush(chars);
+                flushed = result.isUnderflow();
+            }
+            if (result.isOverflow()) {
+                break;
+            }
+        }
+        return chars.flip();
+    }
+}
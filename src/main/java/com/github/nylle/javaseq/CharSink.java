@@ -0,0 +1,95 @@
+package com.github.nylle.javaseq;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+/**
+ * Collects the characters appended to it in a single buffer that is reused for the whole output and passed on to
+ * {@link #write} whenever it is full, so that the target is written to in large blocks instead of once per character.
+ * <p>
+ * Instances are not thread-safe.
+ */
+abstract class CharSink {
+
+    private final CharBuffer chars;
+
+    CharSink(int bufferSize) {
+        this.chars = CharBuffer.allocate(Math.max(2, bufferSize)); // a surrogate pair is encoded at once
+    }
+
+    /**
+     * Returns a sink writing to {@code writer}.
+     */
+    static CharSink of(Writer writer) {
+        return new CharSink(Util.BUFFER_SIZE) {
+            @Override
+            void write(CharBuffer chars, boolean endOfInput) throws IOException {
+                writer.write(chars.array(), chars.arrayOffset() + chars.position(), chars.remaining());
+                chars.position(chars.limit());
+                if (endOfInput) {
+                    writer.flush();
+                }
+            }
+        };
+    }
+
+    /**
+     * Consumes the remaining characters in {@code chars}. Characters that are left because they might belong to
+     * characters appended later are passed on again with the next call.
+     */
+    abstract void write(CharBuffer chars, boolean endOfInput) throws IOException;
+
+    CharSink append(char c) {
+        chars.put(c);
+        if (!chars.hasRemaining()) {
+            write(false);
+        }
+        return this;
+    }
+
+    CharSink append(CharSequence s, int start, int end) {
+        while (start < end) {
+            var n = Math.min(chars.remaining(), end - start);
+            if (s instanceof String str) {
+                str.getChars(start, start + n, chars.array(), chars.arrayOffset() + chars.position());
+                chars.position(chars.position() + n);
+            } else {
+                for (int i = start; i < start + n; i++) {
+                    chars.put(s.charAt(i));
+                }
+            }
+            start += n;
+            if (!chars.hasRemaining()) {
+                write(false);
+            }
+        }
+        return this;
+    }
+
+    CharSink append(Object x) {
+        if (x instanceof Character c) {
+            return append(c.charValue());
+        }
+        var s = String.valueOf(x);
+        return append(s, 0, s.length());
+    }
+
+    /**
+     * Writes all characters appended so far and flushes the target.
+     */
+    void close() {
+        write(true);
+    }
+
+    private void write(boolean endOfInput) {
+        chars.flip();
+        try {
+            write(chars, endOfInput);
+        } catch (IOException ex) {
+            throw new IllegalStateException("unexpected IO error", ex);
+        } finally {
+            chars.compact();
+        }
+    }
+}
@@ -1,21 +1,34 @@
 package com.github.nylle.javaseq;
 
 import java.util.ArrayList;
-import java.util.List;
+import java.util.Spliterator;
 import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
-public class ChunkedCons<T> extends ASeq<T> implements ISeq<T> {
+public class ChunkedCons<T> extends ASeq<T> implements IChunkedSeq<T> {
 
     private final IChunk<T> chunk;
     private final ISeq<T> rest;
+    private int count = -1;
 
     ChunkedCons(IChunk<T> chunk, ISeq<T> rest) {
         this.chunk = chunk;
         this.rest = rest;
     }
 
+    @Override
+    public IChunk<T> chunkedFirst() {
+        return chunk;
+    }
+
+    @Override
+    public ISeq<T> chunkedMore() {
+        return rest;
+    }
+
     private static <T> ChunkedCons<T> chunkedCons(ArrayList<T> xs, ISeq<T> rest) {
         return new ChunkedCons<T>(new ArrayChunk(xs.toArray()), rest);
     }
@@ -27,10 +40,15 @@ public class ChunkedCons<T> extends ASeq<T> implements ISeq<T> {
 
     @Override
     public ISeq<T> rest() {
-        if (chunk.count() > 1) {
-            return new ChunkedCons<>(chunk.dropFirst(), rest);
+        if (chunk.count() == 1) {
+            return rest;
         }
-        return rest;
+        return new ChunkedCons<>(chunk.dropFirst(), rest);
+    }
+
+    @Override
+    boolean cachesHashCode() {
+        return true;
     }
 
     @Override
@@ -41,16 +59,43 @@ public class ChunkedCons<T> extends ASeq<T> implements ISeq<T> {
     @Override
     public ISeq<T> filter(Predicate<? super T> pred) {
         return ISeq.lazySeq(() -> {
-            var acc = new ArrayList<T>();
-            for (int i = 0; i < chunk.count(); i++) {
-                if (pred.test(chunk.nth(i))) {
-                    acc.add(chunk.nth(i));
+            ISeq<T> s = this;
+            while (s instanceof IChunkedSeq<T> chunkedSeq) {
+                var chunk = chunkedSeq.chunkedFirst();
+                var acc = new ArrayList<T>();
+                for (int i = 0; i < chunk.count(); i++) {
+                    if (pred.test(chunk.nth(i))) {
+                        acc.add(chunk.nth(i));
+                    }
+                }
+                s = LazySeq.unwrap(chunkedSeq.chunkedMore());
+                if (!acc.isEmpty()) {
+                    return chunkedCons(acc, s.filter(pred));
                 }
             }
-            if (acc.isEmpty()) {
-                return rest.filter(pred);
+            return s.filter(pred);
+        });
+    }
+
+    @Override
+    public <R> ISeq<R> keep(Function<? super T, ? extends R> f) {
+        return ISeq.lazySeq(() -> {
+            ISeq<T> s = this;
+            while (s instanceof IChunkedSeq<T> chunkedSeq) {
+                var chunk = chunkedSeq.chunkedFirst();
+                var acc = new ArrayList<R>();
+                for (int i = 0; i < chunk.count(); i++) {
+                    var x = f.apply(chunk.nth(i));
+                    if (x != null) {
+                        acc.add(x);
+                    }
+                }
+                s = LazySeq.unwrap(chunkedSeq.chunkedMore());
+                if (!acc.isEmpty()) {
+                    return chunkedCons(acc, s.keep(f));
+                }
             }
-            return chunkedCons(acc, rest.filter(pred));
+            return s.keep(f);
         });
     }
 
@@ -89,32 +134,26 @@ public class ChunkedCons<T> extends ASeq<T> implements ISeq<T> {
             if (n >= chunk.count()) {
                 return new ChunkedCons<>(chunk, rest.take(n - chunk.count()));
             }
-
-            var acc = ISeq.<T>of();
-            for (int i = (int) n - 1; i >= 0; i--) {
-                acc = ISeq.cons(nth(i), acc);
-            }
-            return acc;
+            return new ChunkedCons<>(chunk.slice(0, (int) n), ISeq.of());
         });
     }
 
     @Override
     public ISeq<T> drop(long n) {
         return ISeq.lazySeq(() -> {
-            if (n < 1) {
-                return this;
+            ISeq<T> s = this;
+            var remaining = n;
+            while (s instanceof ChunkedCons<T> chunkedCons && remaining >= chunkedCons.chunk.count()) {
+                remaining -= chunkedCons.chunk.count();
+                s = LazySeq.unwrap(chunkedCons.rest);
             }
-
-            if (n >= chunk.count()) {
-                return rest.drop(n - chunk.count());
+            if (remaining < 1) {
+                return s;
             }
-
-            IChunk<T> acc = chunk;
-            for (int i = 0; i < n; i++) {
-                acc = acc.dropFirst();
+            if (s instanceof ChunkedCons<T> chunkedCons) {
+                return new ChunkedCons<>(chunkedCons.chunk.drop((int) remaining), chunkedCons.rest);
             }
-
-            return new ChunkedCons<>(acc, rest);
+            return s.drop(remaining);
         });
     }
 
@@ -141,18 +180,14 @@ public class ChunkedCons<T> extends ASeq<T> implements ISeq<T> {
     @Override
     public ISeq<T> dropWhile(Predicate<? super T> pred) {
         return ISeq.lazySeq(() -> {
-            IChunk<T> acc = chunk;
-            for (int i = 0; i < chunk.count(); i++) {
-                if (pred.test(chunk.nth(i))) {
-                    acc = acc.dropFirst();
-                } else {
-                    break;
-                }
+            var start = 0;
+            while (start < chunk.count() && pred.test(chunk.nth(start))) {
+                start++;
             }
-            if(acc.count() == 0) { // all items match
+            if (start == chunk.count()) { // all items match
                 return rest.dropWhile(pred);
             }
-            return new ChunkedCons<>(acc, rest);
+            return start == 0 ? this : new ChunkedCons<>(chunk.drop(start), rest);
         });
     }
 
@@ -173,66 +208,155 @@ public class ChunkedCons<T> extends ASeq<T> implements ISeq<T> {
     @Override
     public <U> U reduce(U val, BiFunction<U, ? super T, U> f) {
         var result = val;
-        for (int i = 0; i < chunk.count(); i++) {
-            result = f.apply(result, chunk.nth(i));
+        ISeq<T> s = this;
+        while (s instanceof ChunkedCons<T> chunkedCons) {
+            var chunk = chunkedCons.chunk;
+            for (int i = 0; i < chunk.count(); i++) {
+                result = f.apply(result, chunk.nth(i));
+            }
+            s = LazySeq.unwrap(chunkedCons.rest);
         }
-        return rest.reduce(result, f);
+        return s.reduce(result, f);
+    }
+
+    @Override
+    public <U> U fold(int n, Supplier<U> init, BinaryOperator<U> combine, BiFunction<U, ? super T, U> reduce) {
+        var chunks = new ArrayList<IChunk<T>>();
+        var total = 0L;
+        ISeq<T> s = this;
+        while (true) {
+            if (s instanceof LazySeq<T> lazySeq) {
+                s = lazySeq.seq();
+            } else if (s instanceof ChunkedCons<T> chunkedCons) {
+                chunks.add(chunkedCons.chunk);
+                total += chunkedCons.chunk.count();
+                s = chunkedCons.rest;
+            } else {
+                break;
+            }
+        }
+        var chunksPerPartition = (int) Math.max(1, Math.min(Integer.MAX_VALUE, (long) n * chunks.size() / total));
+        var result = Util.fold(ISeq.seq(chunks), chunksPerPartition, init, combine, (U acc, IChunk<T> part) -> {
+            for (int i = 0; i < part.count(); i++) {
+                acc = reduce.apply(acc, part.nth(i));
+            }
+            return acc;
+        });
+        return combine.apply(result, s.fold(n, init, combine, reduce));
     }
 
     @Override
     public boolean some(Predicate<? super T> pred) {
-        for(int i = 0; i < chunk.count(); i++) {
-            if(pred.test(chunk.nth(i))) {
-                return true;
+        ISeq<T> s = this;
+        while (s instanceof ChunkedCons<T> chunkedCons) {
+            var chunk = chunkedCons.chunk;
+            for (int i = 0; i < chunk.count(); i++) {
+                if (pred.test(chunk.nth(i))) {
+                    return true;
+                }
             }
+            s = LazySeq.unwrap(chunkedCons.rest);
         }
-        return rest().some(pred);
+        return s.some(pred);
     }
 
     @Override
     public boolean every(Predicate<? super T> pred) {
-        for(int i = 0; i < chunk.count(); i++) {
-            if(!pred.test(chunk.nth(i))) {
-                return false;
+        ISeq<T> s = this;
+        while (s instanceof ChunkedCons<T> chunkedCons) {
+            var chunk = chunkedCons.chunk;
+            for (int i = 0; i < chunk.count(); i++) {
+                if (!pred.test(chunk.nth(i))) {
+                    return false;
+                }
             }
+            s = LazySeq.unwrap(chunkedCons.rest);
         }
-        return rest().every(pred);
+        return s.every(pred);
     }
 
     @Override
-    public T nth(int index) {
-        if(index < 0) throw new IndexOutOfBoundsException(index);
-        if(index < chunk.count()) {
-            return chunk.nth(index);
+    protected T nth(int index, Supplier<T> notFound) {
+        if (index < 0) {
+            return notFound.get();
         }
-        try {
-            return rest.nth(index - chunk.count());
-        } catch(IndexOutOfBoundsException ex) {
-            throw new IndexOutOfBoundsException(index);
+        ISeq<T> s = this;
+        var i = index;
+        while (s instanceof ChunkedCons<T> chunkedCons) {
+            if (i < chunkedCons.chunk.count()) {
+                return chunkedCons.chunk.nth(i);
+            }
+            i -= chunkedCons.chunk.count();
+            s = LazySeq.unwrap(chunkedCons.rest);
         }
+        return ((ASeq<T>) s).nth(i, notFound);
     }
 
     @Override
-    public T nth(int index, T notFound) {
-        if(index < 0) return notFound;
-        if(index < chunk.count()) {
-            return chunk.nth(index);
+    public int count() {
+        if (count < 0) {
+            var i = 0;
+            ISeq<T> s = this;
+            while (!(s instanceof ICounted)) {
+                if (s instanceof LazySeq<T> lazySeq) {
+                    s = lazySeq.seq();
+                } else if (s instanceof ChunkedCons<T> chunkedCons) {
+                    if (chunkedCons.count >= 0) {
+                        break;
+                    }
+                    i += chunkedCons.chunk.count();
+                    s = chunkedCons.rest;
+                } else if (s.isEmpty()) {
+                    break;
+                } else {
+                    i++;
+                    s = s.rest();
+                }
+            }
+            count = i + s.count();
         }
-        return rest.nth(index - chunk.count(), notFound);
+        return count;
     }
 
     @Override
-    public int count() {
-        return chunk.count() + rest.count();
+    StringBuilder appendTo(StringBuilder sb, CharSequence separator) {
+        ISeq<T> s = this;
+        while (s instanceof ChunkedCons<T> chunkedCons) {
+            var chunk = chunkedCons.chunk;
+            if (separator.isEmpty() && chunk instanceof StringChunk stringChunk) {
+                stringChunk.appendTo(sb);
+            } else {
+                for (int i = 0; i < chunk.count(); i++) {
+                    if (s != this || i > 0) {
+                        sb.append(separator);
+                    }
+                    sb.append(chunk.nth(i));
+                }
+            }
+            s = LazySeq.unwrap(chunkedCons.rest);
+        }
+        return s.reduce(sb, (acc, x) -> acc.append(separator).append(x));
     }
 
     @Override
-    public List<T> reify() {
-        var acc = new ArrayList<T>();
-        for (int i = 0; i < chunk.count(); i++) {
-            acc.add(chunk.nth(i));
+    CharSink writeTo(CharSink sink) {
+        ISeq<T> s = this;
+        while (s instanceof ChunkedCons<T> chunkedCons) {
+            var chunk = chunkedCons.chunk;
+            if (chunk instanceof StringChunk stringChunk) {
+                stringChunk.writeTo(sink);
+            } else {
+                for (int i = 0; i < chunk.count(); i++) {
+                    sink.append(chunk.nth(i));
+                }
+            }
+            s = LazySeq.unwrap(chunkedCons.rest);
         }
-        acc.addAll(rest);
-        return List.copyOf(acc);
+        return s.reduce(sink, CharSink::append);
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new SeqSpliterator<>(this);
     }
 }
@@ -20,6 +20,11 @@ class Cons<T> extends ASeq<T> implements ISeq<T> {
 		return rest;
 	}
 
+	@Override
+	boolean cachesHashCode() {
+		return true;
+	}
+
 	@Override
 	public boolean isRealized() {
 		return true;
@@ -0,0 +1,26 @@
+package com.github.nylle.javaseq;
+
+import java.util.function.Supplier;
+
+/**
+ * Lazy seq whose number of items is known before it is realized, e.g. the concatenation of counted seqs.
+ */
+class CountedLazySeq<T> extends LazySeq<T> implements ICounted {
+
+    private final int count;
+
+    CountedLazySeq(Supplier<ISeq<T>> f, int count) {
+        super(f);
+        this.count = count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @Override
+    public int count() {
+        return count;
+    }
+}
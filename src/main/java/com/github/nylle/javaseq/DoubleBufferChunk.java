@@ -0,0 +1,104 @@
+package com.github.nylle.javaseq;
+
+import java.nio.DoubleBuffer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A chunk viewing the {@code double}s between {@code offset} and {@code end} of a buffer, which is read with absolute
+ * gets and never copied. If the buffer is a view of a direct or memory-mapped {@code ByteBuffer}, the items are stored
+ * off-heap and traversing them allocates nothing. The results of {@link #map} and {@link #filter} are on-heap.
+ */
+class DoubleBufferChunk implements IDoubleChunk {
+
+    private final DoubleBuffer buffer;
+    private final int offset;
+    private final int end;
+
+    DoubleBufferChunk(DoubleBuffer buffer) {
+        this(buffer.slice(), 0, buffer.remaining());
+    }
+
+    private DoubleBufferChunk(DoubleBuffer buffer, int offset, int end) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.end = end;
+    }
+
+    @Override
+    public Double nth(int n) {
+        return doubleNth(n);
+    }
+
+    @Override
+    public double doubleNth(int n) {
+        if (n < 0 || (offset + n) >= end) {
+            throw new IndexOutOfBoundsException("Index " + n + " out of bounds for length " + count());
+        }
+        return buffer.get(offset + n);
+    }
+
+    @Override
+    public DoubleBufferChunk dropFirst() {
+        return new DoubleBufferChunk(buffer, offset + 1, end);
+    }
+
+    @Override
+    public DoubleBufferChunk dropLast(int n) {
+        return new DoubleBufferChunk(buffer, offset, end - n);
+    }
+
+    @Override
+    public DoubleBufferChunk drop(int n) {
+        return new DoubleBufferChunk(buffer, offset + n, end);
+    }
+
+    @Override
+    public DoubleBufferChunk slice(int from, int to) {
+        return new DoubleBufferChunk(buffer, offset + from, offset + to);
+    }
+
+    @Override
+    public int count() {
+        return end - offset;
+    }
+
+    @Override
+    public double reduce(double val, DoubleBinaryOperator f) {
+        var result = val;
+        for (int i = offset; i < end; i++) {
+            result = f.applyAsDouble(result, buffer.get(i));
+        }
+        return result;
+    }
+
+    @Override
+    public DoubleChunk map(DoubleUnaryOperator f) {
+        var result = new double[count()];
+        for (int i = offset; i < end; i++) {
+            result[i - offset] = f.applyAsDouble(buffer.get(i));
+        }
+        return new DoubleChunk(result);
+    }
+
+    @Override
+    public DoubleChunk filter(DoublePredicate pred) {
+        var result = new double[count()];
+        var n = 0;
+        for (int i = offset; i < end; i++) {
+            var x = buffer.get(i);
+            if (pred.test(x)) {
+                result[n++] = x;
+            }
+        }
+        return new DoubleChunk(result, 0, n);
+    }
+
+    @Override
+    public double[] toArray() {
+        var result = new double[count()];
+        buffer.get(offset, result);
+        return result;
+    }
+}
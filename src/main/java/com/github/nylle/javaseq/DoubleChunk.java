@@ -0,0 +1,93 @@
+package com.github.nylle.javaseq;
+
+import java.util.Arrays;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+public class DoubleChunk implements IDoubleChunk {
+
+    private final double[] array;
+    private final int offset;
+    private final int end;
+
+    DoubleChunk(double[] array) {
+        this.array = array;
+        this.offset = 0;
+        this.end = array.length;
+    }
+
+    DoubleChunk(double[] array, int offset, int end) {
+        this.array = array;
+        this.offset = offset;
+        this.end = end;
+    }
+
+    @Override
+    public Double nth(int n) {
+        return doubleNth(n);
+    }
+
+    public double doubleNth(int n) {
+        if (n < 0 || (offset + n) >= end) {
+            throw new IndexOutOfBoundsException("Index " + n + " out of bounds for length " + count());
+        }
+        return array[offset + n];
+    }
+
+    @Override
+    public DoubleChunk dropFirst() {
+        return new DoubleChunk(array, offset + 1, end);
+    }
+
+    @Override
+    public DoubleChunk dropLast(int n) {
+        return new DoubleChunk(array, offset, end - n);
+    }
+
+    @Override
+    public DoubleChunk drop(int n) {
+        return new DoubleChunk(array, offset + n, end);
+    }
+
+    @Override
+    public DoubleChunk slice(int from, int to) {
+        return new DoubleChunk(array, offset + from, offset + to);
+    }
+
+    @Override
+    public int count() {
+        return end - offset;
+    }
+
+    public double reduce(double val, DoubleBinaryOperator f) {
+        var result = val;
+        for (int i = offset; i < end; i++) {
+            result = f.applyAsDouble(result, array[i]);
+        }
+        return result;
+    }
+
+    public DoubleChunk map(DoubleUnaryOperator f) {
+        var result = new double[count()];
+        for (int i = offset; i < end; i++) {
+            result[i - offset] = f.applyAsDouble(array[i]);
+        }
+        return new DoubleChunk(result);
+    }
+
+    public DoubleChunk filter(DoublePredicate pred) {
+        var result = new double[count()];
+        var n = 0;
+        for (int i = offset; i < end; i++) {
+            if (pred.test(array[i])) {
+                result[n++] = array[i];
+            }
+        }
+        return new DoubleChunk(result, 0, n);
+    }
+
+    public double[] toArray() {
+        return Arrays.copyOfRange(array, offset, end);
+    }
+}
@@ -0,0 +1,249 @@
+package com.github.nylle.javaseq;
+
+import java.util.Iterator;
+import java.util.OptionalDouble;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A fully realized seq of primitive {@code double}s. Items are only boxed when accessed through the generic
+ * {@code ISeq<Double>} interface; the primitive operations ({@link #mapDouble}, {@link #filterDouble}, {@link #reduceDouble},
+ * {@link #sum}, {@link #min()}, {@link #max()}) never box.
+ */
+public class DoubleSeq extends ASeq<Double> implements ISeq<Double>, ICounted {
+
+    private static final DoubleSeq EMPTY = new DoubleSeq(new DoubleChunk(new double[0]));
+
+    private final IDoubleChunk chunk;
+
+    DoubleSeq(IDoubleChunk chunk) {
+        this.chunk = chunk;
+    }
+
+    static DoubleSeq empty() {
+        return EMPTY;
+    }
+
+    @Override
+    public Double first() {
+        return isEmpty() ? null : chunk.doubleNth(0);
+    }
+
+    @Override
+    public DoubleSeq rest() {
+        if (chunk.count() > 1) {
+            return new DoubleSeq(chunk.dropFirst());
+        }
+        return EMPTY;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return chunk.count() == 0;
+    }
+
+    @Override
+    public boolean isRealized() {
+        return true;
+    }
+
+    @Override
+    public DoubleSeq take(long n) {
+        if (n >= chunk.count()) {
+            return this;
+        }
+        if (n > 0) {
+            return new DoubleSeq(chunk.dropLast(chunk.count() - (int) n));
+        }
+        return EMPTY;
+    }
+
+    @Override
+    public DoubleSeq drop(long n) {
+        if (n >= chunk.count()) {
+            return EMPTY;
+        }
+        if (n > 0) {
+            return new DoubleSeq(chunk.drop((int) n));
+        }
+        return this;
+    }
+
+    @Override
+    public <U> U reduce(U val, BiFunction<U, ? super Double, U> f) {
+        var result = val;
+        for (int i = 0; i < chunk.count(); i++) {
+            result = f.apply(result, chunk.doubleNth(i));
+        }
+        return result;
+    }
+
+    @Override
+    public <U> U fold(int n, Supplier<U> init, BinaryOperator<U> combine, BiFunction<U, ? super Double, U> reduce) {
+        return Util.fold(this, n, init, combine, reduce);
+    }
+
+    @Override
+    public boolean some(Predicate<? super Double> pred) {
+        for (int i = 0; i < chunk.count(); i++) {
+            if (pred.test(chunk.doubleNth(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean every(Predicate<? super Double> pred) {
+        for (int i = 0; i < chunk.count(); i++) {
+            if (!pred.test(chunk.doubleNth(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected Double nth(int index, Supplier<Double> notFound) {
+        if (index < 0 || index >= chunk.count()) {
+            return notFound.get();
+        }
+        return chunk.doubleNth(index);
+    }
+
+    @Override
+    public int count() {
+        return chunk.count();
+    }
+
+    @Override
+    public Iterator<Double> iterator() {
+        return new IndexedIterator<>(chunk::nth, 0, chunk.count());
+    }
+
+    @Override
+    public Spliterator<Double> spliterator() {
+        return new IndexedSpliterator<>(chunk::nth, 0, chunk.count(), Spliterator.NONNULL);
+    }
+
+    @Override
+    public Object[] toArray() {
+        var result = new Object[chunk.count()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = chunk.doubleNth(i);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the {@code double} at {@code index} in this seq without boxing it.
+     *
+     * @param index the index of the item to be returned
+     * @return the item at index in this seq
+     * @throws IndexOutOfBoundsException if index is out of bounds
+     */
+    public double nthDouble(int index) {
+        return chunk.doubleNth(index);
+    }
+
+    /**
+     * Returns a seq of the result of applying {@code f} to each item in this seq.
+     *
+     * @param f the mapping function
+     * @return a seq of the result of applying f to each item in this seq
+     */
+    public DoubleSeq mapDouble(DoubleUnaryOperator f) {
+        return new DoubleSeq(chunk.map(f));
+    }
+
+    /**
+     * Returns a seq of the items in this seq for which {@code pred} returns true.
+     *
+     * @param pred the predicate to test items with
+     * @return a seq of the items in this seq for which pred returns true
+     */
+    public DoubleSeq filterDouble(DoublePredicate pred) {
+        return new DoubleSeq(chunk.filter(pred));
+    }
+
+    /**
+     * Returns the result of applying {@code f} to {@code val} and the first item in this seq, then applying {@code f}
+     * to that result and the 2nd item, etc. Returns val if this seq is empty.
+     *
+     * @param val the initial value
+     * @param f   the reducing function
+     * @return the result of the reduction
+     */
+    public double reduceDouble(double val, DoubleBinaryOperator f) {
+        return chunk.reduce(val, f);
+    }
+
+    /**
+     * Returns the sum of all items in this seq, or 0 if this seq is empty.
+     *
+     * @return the sum of all items in this seq
+     */
+    public double sum() {
+        double result = 0;
+        for (int i = 0; i < chunk.count(); i++) {
+            result += chunk.doubleNth(i);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the least item in this seq, or an empty {@code OptionalDouble} if this seq is empty.
+     *
+     * @return the least item in this seq
+     */
+    public OptionalDouble min() {
+        if (isEmpty()) {
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of(reduceDouble(chunk.doubleNth(0), Math::min));
+    }
+
+    /**
+     * Returns the greatest item in this seq, or an empty {@code OptionalDouble} if this seq is empty.
+     *
+     * @return the greatest item in this seq
+     */
+    public OptionalDouble max() {
+        if (isEmpty()) {
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of(reduceDouble(chunk.doubleNth(0), Math::max));
+    }
+
+    /**
+     * Returns a seq of the result of applying {@code f} to each item in this seq.
+     *
+     * @param f   the mapping function
+     * @param <R> the type of items in the returned seq
+     * @return a seq of the result of applying f to each item in this seq
+     */
+    @SuppressWarnings("unchecked")
+    public <R> ISeq<R> mapToObj(DoubleFunction<? extends R> f) {
+        var result = new Object[chunk.count()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = f.apply(chunk.doubleNth(i));
+        }
+        return Util.arraySeq((R[]) result);
+    }
+
+    /**
+     * Returns a new array with all items in this seq.
+     *
+     * @return an array with all items in this seq
+     */
+    public double[] toDoubleArray() {
+        return chunk.toArray();
+    }
+}
@@ -0,0 +1,226 @@
+package com.github.nylle.javaseq;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Sorts items that do not fit into memory. The items are sorted in runs of at most {@code maxInMemory} items, each of
+ * which is written to a temporary file with the serializer. At most {@code fanIn} runs are merged at once, so that the
+ * number of open files and read buffers is bounded: while there are more runs, groups of fanIn consecutive runs are
+ * merged into intermediate run files. The sorted seq merges the remaining runs lazily, keeping only the next item of
+ * each run in memory. The sort is stable: of equal items, the one from the earlier run comes first.
+ * <p>
+ * A run file is deleted as soon as it has been read completely. Files of a sorted seq that is not fully realized are
+ * left in the temporary directory.
+ */
+final class ExternalSort<T> {
+
+    static final int FAN_IN = 64;
+
+    private final Comparator<? super T> comp;
+    private final ISerializer<T> serializer;
+    private final int maxInMemory;
+    private final int fanIn;
+    private final Path directory;
+
+    ExternalSort(Comparator<? super T> comp, ISerializer<T> serializer, int maxInMemory) {
+        this(comp, serializer, maxInMemory, FAN_IN, null);
+    }
+
+    ExternalSort(Comparator<? super T> comp, ISerializer<T> serializer, int maxInMemory, int fanIn, Path directory) {
+        if (maxInMemory < 1) {
+            throw new IllegalArgumentException("maxInMemory must be greater than 0");
+        }
+        if (fanIn < 2) {
+            throw new IllegalArgumentException("fanIn must be greater than 1");
+        }
+        this.comp = comp;
+        this.serializer = serializer;
+        this.maxInMemory = maxInMemory;
+        this.fanIn = fanIn;
+        this.directory = directory;
+    }
+
+    /**
+     * Returns a lazy seq of all {@code items} in sorted order, which sorts them when it is realized. The items consumed
+     * by a failed sort cannot be read again, so every later attempt to realize the seq rethrows the same exception.
+     */
+    ISeq<T> lazySort(Iterator<T> items) {
+        var failure = new AtomicReference<RuntimeException>();
+        return Util.lazySeq(() -> {
+            if (failure.get() != null) {
+                throw failure.get();
+            }
+            try {
+                return sort(items);
+            } catch (RuntimeException ex) {
+                failure.set(ex);
+                throw ex;
+            }
+        });
+    }
+
+    /**
+     * Returns a seq of all {@code items} in sorted order. The items are sorted in memory without writing any file if
+     * there are no more than {@code maxInMemory} of them.
+     */
+    @SuppressWarnings("unchecked")
+    ISeq<T> sort(Iterator<T> items) {
+        var runs = new ArrayList<Run>();
+        try {
+            while (items.hasNext()) {
+                var run = new ArrayList<T>();
+                while (run.size() < maxInMemory && items.hasNext()) {
+                    run.add(items.next());
+                }
+                run.sort(comp);
+                if (runs.isEmpty() && !items.hasNext()) {
+                    return Util.arraySeq((T[]) run.toArray());
+                }
+                runs.add(spill(run.iterator(), runs.size()));
+            }
+            while (runs.size() > fanIn) {
+                runs = mergePass(runs);
+            }
+            return Util.chunkIteratorSeq(new Merge(runs));
+        } catch (IOException ex) {
+            runs.forEach(Run::delete);
+            throw new IllegalStateException("unexpected IO error", ex);
+        } catch (RuntimeException ex) {
+            runs.forEach(Run::delete);
+            throw ex;
+        }
+    }
+
+    /**
+     * Merges each group of {@code fanIn} consecutive runs into a single run, which keeps the order of the runs.
+     */
+    private ArrayList<Run> mergePass(List<Run> runs) throws IOException {
+        var result = new ArrayList<Run>();
+        try {
+            for (int i = 0; i < runs.size(); i += fanIn) {
+                var group = runs.subList(i, Math.min(runs.size(), i + fanIn));
+                result.add(group.size() == 1 ? group.get(0).withIndex(result.size()) : spill(new Merge(group), result.size()));
+            }
+            return result;
+        } catch (IOException | RuntimeException ex) {
+            result.forEach(Run::delete);
+            throw ex;
+        }
+    }
+
+    private Run spill(Iterator<T> items, int index) throws IOException {
+        var file = directory == null ? Files.createTempFile("javaseq", ".run") : Files.createTempFile(directory, "javaseq", ".run");
+        var count = 0L;
+        try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), Util.BUFFER_SIZE))) {
+            while (items.hasNext()) {
+                serializer.write(out, items.next());
+                count++;
+            }
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(file);
+            throw ex;
+        }
+        return new Run(file, count, index);
+    }
+
+    private final class Run {
+
+        private final Path file;
+        private final int index;
+        private long remaining;
+        private DataInputStream in;
+        private T head;
+
+        Run(Path file, long count, int index) {
+            this.file = file;
+            this.remaining = count;
+            this.index = index;
+        }
+
+        Run withIndex(int index) {
+            return new Run(file, remaining, index);
+        }
+
+        /**
+         * Reads the next item into {@code head} and returns true, or deletes the file and returns false if all items
+         * have been read.
+         */
+        boolean advance() throws IOException {
+            if (remaining == 0) {
+                delete();
+                return false;
+            }
+            if (in == null) {
+                in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), Util.BUFFER_SIZE));
+            }
+            head = serializer.read(in);
+            remaining--;
+            return true;
+        }
+
+        void delete() {
+            try {
+                if (in != null) {
+                    in.close();
+                }
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // the file is left in the temporary directory
+            }
+        }
+    }
+
+    private final class Merge implements Iterator<T> {
+
+        private final PriorityQueue<Run> queue;
+
+        Merge(List<Run> runs) throws IOException {
+            this.queue = new PriorityQueue<>(Math.max(1, runs.size()), (a, b) -> {
+                var result = comp.compare(a.head, b.head);
+                return result != 0 ? result : Integer.compare(a.index, b.index);
+            });
+            for (var run : runs) {
+                if (run.advance()) {
+                    queue.add(run);
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !queue.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            var run = queue.poll();
+            if (run == null) {
+                throw new NoSuchElementException();
+            }
+            var next = run.head;
+            try {
+                if (run.advance()) {
+                    queue.add(run);
+                }
+            } catch (IOException ex) {
+                queue.forEach(Run::delete);
+                run.delete();
+                throw new IllegalStateException("unexpected IO error", ex);
+            }
+            return next;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.github.nylle.javaseq;
+
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Reduces a seq on the fork-join pool by splitting it in halves until a partition contains at most {@code n} items.
+ * Only suitable for seqs that can be split with {@code take} and {@code drop} in constant time.
+ */
+class FoldTask<T, U> extends RecursiveTask<U> {
+
+    private final ISeq<T> seq;
+    private final int count;
+    private final int n;
+    private final Supplier<U> init;
+    private final BinaryOperator<U> combine;
+    private final BiFunction<U, ? super T, U> reduce;
+
+    FoldTask(ISeq<T> seq, int count, int n, Supplier<U> init, BinaryOperator<U> combine, BiFunction<U, ? super T, U> reduce) {
+        this.seq = seq;
+        this.count = count;
+        this.n = n;
+        this.init = init;
+        this.combine = combine;
+        this.reduce = reduce;
+    }
+
+    @Override
+    protected U compute() {
+        if (count <= n) {
+            return seq.reduce(init.get(), reduce);
+        }
+        var half = count / 2;
+        var left = new FoldTask<>(seq.take(half), half, n, init, combine, reduce);
+        var right = new FoldTask<>(seq.drop(half), count - half, n, init, combine, reduce);
+        left.fork();
+        var result = right.compute();
+        return combine.apply(left.join(), result);
+    }
+}
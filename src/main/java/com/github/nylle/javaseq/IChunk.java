@@ -8,5 +8,25 @@ public interface IChunk<T> {
 
     IChunk<T> dropLast(int n);
 
+    /**
+     * Returns a chunk without the first {@code n} items of this chunk. Implementations should override this with a
+     * constant-time view.
+     */
+    default IChunk<T> drop(int n) {
+        IChunk<T> result = this;
+        for (int i = 0; i < n; i++) {
+            result = result.dropFirst();
+        }
+        return result;
+    }
+
+    /**
+     * Returns a chunk of the items of this chunk from index {@code from} (inclusive) to {@code to} (exclusive).
+     * Implementations should override this with a constant-time view.
+     */
+    default IChunk<T> slice(int from, int to) {
+        return drop(from).dropLast(count() - to);
+    }
+
     int count();
 }
@@ -0,0 +1,18 @@
+package com.github.nylle.javaseq;
+
+/**
+ * A seq that can be consumed a chunk at a time, so that operations can process its items in a tight loop instead of
+ * calling first and rest for each item.
+ */
+interface IChunkedSeq<T> extends ISeq<T> {
+
+    /**
+     * Returns the items at the head of this seq as a chunk.
+     */
+    IChunk<T> chunkedFirst();
+
+    /**
+     * Returns the seq of the items after the chunk returned by {@link #chunkedFirst()}.
+     */
+    ISeq<T> chunkedMore();
+}
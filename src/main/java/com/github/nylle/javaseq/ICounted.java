@@ -0,0 +1,7 @@
+package com.github.nylle.javaseq;
+
+/**
+ * Marks a seq that returns its count in constant time and without realizing any items.
+ */
+interface ICounted {
+}
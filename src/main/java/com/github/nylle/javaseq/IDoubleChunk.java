@@ -0,0 +1,34 @@
+package com.github.nylle.javaseq;
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A chunk of primitive {@code double}s, which is either backed by an array ({@link DoubleChunk}) or by a buffer that may
+ * be stored off-heap ({@link DoubleBufferChunk}).
+ */
+interface IDoubleChunk extends IChunk<Double> {
+
+    double doubleNth(int n);
+
+    @Override
+    IDoubleChunk dropFirst();
+
+    @Override
+    IDoubleChunk dropLast(int n);
+
+    @Override
+    IDoubleChunk drop(int n);
+
+    @Override
+    IDoubleChunk slice(int from, int to);
+
+    double reduce(double val, DoubleBinaryOperator f);
+
+    IDoubleChunk map(DoubleUnaryOperator f);
+
+    IDoubleChunk filter(DoublePredicate pred);
+
+    double[] toArray();
+}
@@ -0,0 +1,34 @@
+package com.github.nylle.javaseq;
+
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A chunk of primitive {@code int}s, which is either backed by an array ({@link IntChunk}) or by a buffer that may
+ * be stored off-heap ({@link IntBufferChunk}).
+ */
+interface IIntChunk extends IChunk<Integer> {
+
+    int intNth(int n);
+
+    @Override
+    IIntChunk dropFirst();
+
+    @Override
+    IIntChunk dropLast(int n);
+
+    @Override
+    IIntChunk drop(int n);
+
+    @Override
+    IIntChunk slice(int from, int to);
+
+    int reduce(int val, IntBinaryOperator f);
+
+    IIntChunk map(IntUnaryOperator f);
+
+    IIntChunk filter(IntPredicate pred);
+
+    int[] toArray();
+}
@@ -0,0 +1,34 @@
+package com.github.nylle.javaseq;
+
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A chunk of primitive {@code long}s, which is either backed by an array ({@link LongChunk}) or by a buffer that may
+ * be stored off-heap ({@link LongBufferChunk}).
+ */
+interface ILongChunk extends IChunk<Long> {
+
+    long longNth(int n);
+
+    @Override
+    ILongChunk dropFirst();
+
+    @Override
+    ILongChunk dropLast(int n);
+
+    @Override
+    ILongChunk drop(int n);
+
+    @Override
+    ILongChunk slice(int from, int to);
+
+    long reduce(long val, LongBinaryOperator f);
+
+    ILongChunk map(LongUnaryOperator f);
+
+    ILongChunk filter(LongPredicate pred);
+
+    long[] toArray();
+}
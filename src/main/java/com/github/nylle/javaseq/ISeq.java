@@ -1,6 +1,18 @@
 package com.github.nylle.javaseq;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
 import java.nio.CharBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Iterator;
@@ -13,6 +25,9 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
@@ -153,6 +168,81 @@ public interface ISeq<T> extends List<T> {
         return Util.nil();
     }
 
+    /**
+     * Coerces {@code coll} to a (possibly empty) seq of primitive ints. The returned seq is backed by {@code coll}.
+     *
+     * @param coll an array to be coerced to a seq
+     * @return a seq of items in coll
+     * @see IntSeq
+     */
+    static IntSeq seq(int[] coll) {
+        return Util.intSeq(coll);
+    }
+
+    /**
+     * Coerces the remaining items of {@code buffer} to a (possibly empty) seq of primitive ints. The returned seq is
+     * backed by the buffer's content, which is not copied: if it is a view of a direct or memory-mapped
+     * {@code ByteBuffer} (e.g. {@code channel.map(READ_ONLY, 0, size).asIntBuffer()}), the items stay off-heap. Changes
+     * to the buffer's position or limit do not affect the seq.
+     *
+     * @param buffer a buffer to be coerced to a seq
+     * @return a seq of the remaining items in buffer
+     * @see IntSeq
+     */
+    static IntSeq seq(IntBuffer buffer) {
+        return Util.intSeq(buffer);
+    }
+
+    /**
+     * Coerces {@code coll} to a (possibly empty) seq of primitive longs. The returned seq is backed by {@code coll}.
+     *
+     * @param coll an array to be coerced to a seq
+     * @return a seq of items in coll
+     * @see LongSeq
+     */
+    static LongSeq seq(long[] coll) {
+        return Util.longSeq(coll);
+    }
+
+    /**
+     * Coerces the remaining items of {@code buffer} to a (possibly empty) seq of primitive longs. The returned seq is
+     * backed by the buffer's content, which is not copied: if it is a view of a direct or memory-mapped
+     * {@code ByteBuffer} (e.g. {@code channel.map(READ_ONLY, 0, size).asLongBuffer()}), the items stay off-heap. Changes
+     * to the buffer's position or limit do not affect the seq.
+     *
+     * @param buffer a buffer to be coerced to a seq
+     * @return a seq of the remaining items in buffer
+     * @see LongSeq
+     */
+    static LongSeq seq(LongBuffer buffer) {
+        return Util.longSeq(buffer);
+    }
+
+    /**
+     * Coerces {@code coll} to a (possibly empty) seq of primitive doubles. The returned seq is backed by {@code coll}.
+     *
+     * @param coll an array to be coerced to a seq
+     * @return a seq of items in coll
+     * @see DoubleSeq
+     */
+    static DoubleSeq seq(double[] coll) {
+        return Util.doubleSeq(coll);
+    }
+
+    /**
+     * Coerces the remaining items of {@code buffer} to a (possibly empty) seq of primitive doubles. The returned seq is
+     * backed by the buffer's content, which is not copied: if it is a view of a direct or memory-mapped
+     * {@code ByteBuffer} (e.g. {@code channel.map(READ_ONLY, 0, size).asDoubleBuffer()}), the items stay off-heap. Changes
+     * to the buffer's position or limit do not affect the seq.
+     *
+     * @param buffer a buffer to be coerced to a seq
+     * @return a seq of the remaining items in buffer
+     * @see DoubleSeq
+     */
+    static DoubleSeq seq(DoubleBuffer buffer) {
+        return Util.doubleSeq(buffer);
+    }
+
     /**
      * Coerces {@code coll} to a (possibly empty) seq. The returned seq will contain items of type {@code Character}.
      *
@@ -167,6 +257,141 @@ public interface ISeq<T> extends List<T> {
         return Util.nil();
     }
 
+    /**
+     * Returns a lazy seq of the characters decoded from the bytes in {@code in}, in chunks of up to 8192 characters.
+     * Bytes are read only as the seq is realized, and multi-byte characters are decoded correctly across reads.
+     * Malformed input is replaced with the replacement character of {@code charset}. The stream is not closed.
+     *
+     * @param in      the stream to read from
+     * @param charset the charset to decode the bytes with
+     * @return a lazy seq of the characters in in
+     */
+    static ISeq<Character> seq(InputStream in, Charset charset) {
+        return seq(in, charset, Util.BUFFER_SIZE);
+    }
+
+    /**
+     * Returns a lazy seq of the characters decoded from the bytes in {@code in}, in chunks of up to {@code chunkSize}
+     * characters. Bytes are read only as the seq is realized, and multi-byte characters are decoded correctly across
+     * reads. Malformed input is replaced with the replacement character of {@code charset}. The stream is not closed.
+     *
+     * @param in        the stream to read from
+     * @param charset   the charset to decode the bytes with
+     * @param chunkSize the maximum number of characters per chunk
+     * @return a lazy seq of the characters in in
+     */
+    static ISeq<Character> seq(InputStream in, Charset charset, int chunkSize) {
+        return Util.channelSeq(Channels.newChannel(in), charset, chunkSize);
+    }
+
+    /**
+     * Returns a lazy seq of the characters decoded from the bytes in {@code channel}, in chunks of up to 8192
+     * characters. Bytes are read only as the seq is realized, and multi-byte characters are decoded correctly across
+     * reads. Malformed input is replaced with the replacement character of {@code charset}. The channel is not closed.
+     *
+     * @param channel the blocking channel to read from
+     * @param charset the charset to decode the bytes with
+     * @return a lazy seq of the characters in channel
+     */
+    static ISeq<Character> seq(ReadableByteChannel channel, Charset charset) {
+        return seq(channel, charset, Util.BUFFER_SIZE);
+    }
+
+    /**
+     * Returns a lazy seq of the characters decoded from the bytes in {@code channel}, in chunks of up to
+     * {@code chunkSize} characters. Bytes are read only as the seq is realized, and multi-byte characters are decoded
+     * correctly across reads. Malformed input is replaced with the replacement character of {@code charset}. The
+     * channel is not closed.
+     *
+     * @param channel   the blocking channel to read from
+     * @param charset   the charset to decode the bytes with
+     * @param chunkSize the maximum number of characters per chunk
+     * @return a lazy seq of the characters in channel
+     */
+    static ISeq<Character> seq(ReadableByteChannel channel, Charset charset, int chunkSize) {
+        return Util.channelSeq(channel, charset, chunkSize);
+    }
+
+    /**
+     * Returns a lazy seq of the lines read from {@code reader}, in chunks of up to 32 lines. A line is terminated by a
+     * line feed, a carriage return or a carriage return followed by a line feed, which are not part of the line. The
+     * reader is read in blocks of 8192 characters as the seq is realized, and it is not closed.
+     *
+     * @param reader the reader to read from
+     * @return a lazy seq of the lines in reader
+     */
+    static ISeq<String> lines(Reader reader) {
+        return Util.readerLineSeq(reader, Util.CHUNK_SIZE);
+    }
+
+    /**
+     * Returns a lazy seq of the lines decoded from the bytes in {@code channel}, in chunks of up to 32 lines. A line is
+     * terminated by a line feed, a carriage return or a carriage return followed by a line feed, which are not part of
+     * the line. The channel is decoded in blocks of 8192 characters as the seq is realized, and it is not closed.
+     *
+     * @param channel the blocking channel to read from
+     * @param charset the charset to decode the bytes with
+     * @return a lazy seq of the lines in channel
+     */
+    static ISeq<String> lines(ReadableByteChannel channel, Charset charset) {
+        return Util.channelLineSeq(channel, charset, Util.CHUNK_SIZE);
+    }
+
+    /**
+     * Returns a lazy seq of the lines read from {@code reader} like {@link #lines(Reader)}, but lines are read-only
+     * views of the block they were read into rather than strings, unless they span two blocks. This avoids allocating a
+     * string per line when the lines are only parsed. A view keeps its whole block of 8192 characters reachable.
+     *
+     * @param reader the reader to read from
+     * @return a lazy seq of the lines in reader
+     */
+    static ISeq<CharSequence> lineViews(Reader reader) {
+        return Util.readerLineViewSeq(reader, Util.CHUNK_SIZE);
+    }
+
+    /**
+     * Returns a lazy seq of the lines decoded from the bytes in {@code channel} like
+     * {@link #lines(ReadableByteChannel, Charset)}, but lines are read-only views of the block they were decoded into
+     * rather than strings, unless they span two blocks. This avoids allocating a string per line when the lines are
+     * only parsed. A view keeps its whole block of 8192 characters reachable.
+     *
+     * @param channel the blocking channel to read from
+     * @param charset the charset to decode the bytes with
+     * @return a lazy seq of the lines in channel
+     */
+    static ISeq<CharSequence> lineViews(ReadableByteChannel channel, Charset charset) {
+        return Util.channelLineViewSeq(channel, charset, Util.CHUNK_SIZE);
+    }
+
+    /**
+     * Returns a lazy seq of the bytes in the file of {@code channel}, in chunks of up to 8192 bytes. The file is
+     * memory-mapped in windows of up to 1 GB as the seq is realized, and the chunks are views of the mapped windows,
+     * so the bytes are read from the page cache without being copied. The seq ends at the size the file had when this
+     * method was called, and the channel must stay open until the seq is fully realized.
+     *
+     * @param channel the file channel to map
+     * @return a lazy seq of the bytes in the file
+     */
+    static ISeq<Byte> mapped(FileChannel channel) {
+        return Util.mappedByteSeq(channel, Util.BUFFER_SIZE);
+    }
+
+    /**
+     * Returns a lazy seq of the characters decoded from the bytes in the file of {@code channel}, in chunks of up to
+     * 8192 characters. The file is memory-mapped in windows of up to 1 GB as the seq is realized, and the windows are
+     * decoded directly. Multi-byte characters are decoded correctly across windows, and malformed input is replaced
+     * with the replacement character of {@code charset}. For ISO-8859-1 the chunks are views of the mapped windows. The
+     * seq ends at the size the file had when this method was called, and the channel must stay open until the seq is
+     * fully realized.
+     *
+     * @param channel the file channel to map
+     * @param charset the charset to decode the bytes with
+     * @return a lazy seq of the characters in the file
+     */
+    static ISeq<Character> mapped(FileChannel channel, Charset charset) {
+        return Util.mappedCharSeq(channel, charset, Util.BUFFER_SIZE);
+    }
+
     /**
      * Coerces {@code coll} to a (possibly empty) seq. Will not force a lazy collection. The returned seq will contain
      * items of type {@code Map.Entry}.
@@ -239,7 +464,10 @@ public interface ISeq<T> extends List<T> {
      * @return a lazy seq of numbers from start (inclusive) to end (exclusive), by step
      */
     static ISeq<Integer> range(int start, int end, int step) {
-        return ISeq.iterate(start, x -> x + step).takeWhile(x -> step >= 0 ? (x < end) : (x > end));
+        if (step == 0 && start < end) {
+            return ISeq.repeat(start);
+        }
+        return Util.rangeSeq(start, end, step);
     }
 
     /**
@@ -297,7 +525,7 @@ public interface ISeq<T> extends List<T> {
      */
     @SafeVarargs
     static <T> ISeq<T> concat(Iterable<T>... colls) {
-        return seq(colls).mapcat(x -> x);
+        return Util.concat(colls);
     }
 
     /**
@@ -314,6 +542,36 @@ public interface ISeq<T> extends List<T> {
         return seq(sb.toString());
     }
 
+    /**
+     * Returns a lazy seq of the items in {@code coll} transformed by {@code xform}. The transformation runs as a single
+     * pass per chunk of items, without creating intermediate seqs.
+     *
+     * @param xform the transducer to apply to the items in coll
+     * @param coll  the source of items
+     * @param <T>   the type of items in coll
+     * @param <R>   the type of items in the returned seq
+     * @return a lazy seq of the items in coll transformed by xform
+     * @see ITransducer
+     */
+    static <T, R> ISeq<R> sequence(ITransducer<T, R> xform, Iterable<T> coll) {
+        return seq(coll).sequence(xform);
+    }
+
+    /**
+     * Returns an {@code Iterable} of the items in {@code coll} transformed by {@code xform}. Unlike {@link #sequence},
+     * the result is not cached: every iteration applies {@code xform} to the items in {@code coll} anew.
+     *
+     * @param xform the transducer to apply to the items in coll
+     * @param coll  the source of items
+     * @param <T>   the type of items in coll
+     * @param <R>   the type of the transformed items
+     * @return an Iterable of the items in coll transformed by xform
+     * @see ITransducer
+     */
+    static <T, R> Iterable<R> eduction(ITransducer<T, R> xform, Iterable<T> coll) {
+        return () -> sequence(xform, coll).iterator();
+    }
+
     // Members
 
     /**
@@ -369,6 +627,15 @@ public interface ISeq<T> extends List<T> {
      */
     ISeq<T> filter(Predicate<? super T> pred);
 
+    /**
+     * Returns a lazy seq of the non-null results of applying {@code f} to the items in this seq.
+     *
+     * @param f   mapping function to apply to items
+     * @param <R> the type of the mapped items
+     * @return a seq of the results of applying f to the items in this seq, without nulls
+     */
+    <R> ISeq<R> keep(Function<? super T, ? extends R> f);
+
     /**
      * Returns a lazy seq of the result of applying {@code f} to each item in this seq.
      *
@@ -523,6 +790,39 @@ public interface ISeq<T> extends List<T> {
      */
     <R> ISeq<R> mapcat(CharSequence coll, BiFunction<? super T, ? super Character, Iterable<? extends R>> f);
 
+    /**
+     * Returns a seq of primitive ints of the result of applying {@code f} to each item in this seq.
+     * <p>
+     * <b>Caution:</b> The seq will be fully realized. If this seq is infinite, it will run infinitely or until system
+     * resources are exhausted.
+     *
+     * @param f mapping function to apply to items
+     * @return a seq of the result of applying f to each item in this seq
+     */
+    IntSeq mapToInt(ToIntFunction<? super T> f);
+
+    /**
+     * Returns a seq of primitive longs of the result of applying {@code f} to each item in this seq.
+     * <p>
+     * <b>Caution:</b> The seq will be fully realized. If this seq is infinite, it will run infinitely or until system
+     * resources are exhausted.
+     *
+     * @param f mapping function to apply to items
+     * @return a seq of the result of applying f to each item in this seq
+     */
+    LongSeq mapToLong(ToLongFunction<? super T> f);
+
+    /**
+     * Returns a seq of primitive doubles of the result of applying {@code f} to each item in this seq.
+     * <p>
+     * <b>Caution:</b> The seq will be fully realized. If this seq is infinite, it will run infinitely or until system
+     * resources are exhausted.
+     *
+     * @param f mapping function to apply to items
+     * @return a seq of the result of applying f to each item in this seq
+     */
+    DoubleSeq mapToDouble(ToDoubleFunction<? super T> f);
+
     /**
      * Returns a lazy seq of successive items from this seq while {@code pred} returns true.
      *
@@ -675,6 +975,77 @@ public interface ISeq<T> extends List<T> {
      */
     <U> U reduce(U val, BiFunction<U, ? super T, U> f);
 
+    /**
+     * Reduces the items in this seq in parallel on the common fork-join pool, in partitions of at most 512 items.
+     * Each partition is reduced with {@code reduce}, starting with a value supplied by {@code init}, and the results of
+     * adjacent partitions are merged with {@code combine}. The value supplied by {@code init} must be an identity for
+     * {@code combine}.
+     * <p>
+     * Seqs that cannot be split efficiently (e.g. lazy seqs of single items) are reduced sequentially. Chunked seqs are
+     * split on chunk boundaries.
+     * <p>
+     * <b>Caution:</b> The seq will be fully realized. If this seq is infinite, it will run infinitely or until system
+     * resources are exhausted.
+     *
+     * @param init    the supplier of the initial value for each partition
+     * @param combine the function to merge the results of two partitions
+     * @param reduce  the function to reduce the items of a partition
+     * @param <U>     the type of the result
+     * @return the result of the reduction
+     */
+    <U> U fold(Supplier<U> init, BinaryOperator<U> combine, BiFunction<U, ? super T, U> reduce);
+
+    /**
+     * Reduces the items in this seq in parallel on the common fork-join pool, in partitions of at most {@code n}
+     * items. Each partition is reduced with {@code reduce}, starting with a value supplied by {@code init}, and the
+     * results of adjacent partitions are merged with {@code combine}. The value supplied by {@code init} must be an
+     * identity for {@code combine}.
+     * <p>
+     * Seqs that cannot be split efficiently (e.g. lazy seqs of single items) are reduced sequentially. Chunked seqs are
+     * split on chunk boundaries.
+     * <p>
+     * <b>Caution:</b> The seq will be fully realized. If this seq is infinite, it will run infinitely or until system
+     * resources are exhausted.
+     *
+     * @param n       the maximum number of items per partition
+     * @param init    the supplier of the initial value for each partition
+     * @param combine the function to merge the results of two partitions
+     * @param reduce  the function to reduce the items of a partition
+     * @param <U>     the type of the result
+     * @return the result of the reduction
+     * @throws IllegalArgumentException if n is less than 1
+     */
+    <U> U fold(int n, Supplier<U> init, BinaryOperator<U> combine, BiFunction<U, ? super T, U> reduce);
+
+    /**
+     * Reduces the items in this seq with {@code f} transformed by {@code xform}, starting with {@code init}. All steps of
+     * xform run in a single pass over this seq. The reduction stops early if xform terminates it (e.g.
+     * {@link ITransducer#take}), which allows transducing infinite seqs.
+     * <p>
+     * <b>Caution:</b> Unless terminated early by xform, the seq will be fully realized. If this seq is infinite, it will
+     * run infinitely or until system resources are exhausted.
+     *
+     * @param xform the transducer to transform f with
+     * @param init  the initial value
+     * @param f     the reducing function
+     * @param <R>   the type of items passed to f
+     * @param <U>   the type of the result
+     * @return the result of the reduction
+     * @see ITransducer
+     */
+    <R, U> U transduce(ITransducer<T, R> xform, U init, BiFunction<U, ? super R, U> f);
+
+    /**
+     * Returns a lazy seq of the items in this seq transformed by {@code xform}. The transformation runs as a single pass
+     * per chunk of items, without creating intermediate seqs.
+     *
+     * @param xform the transducer to apply to the items in this seq
+     * @param <R>   the type of items in the returned seq
+     * @return a lazy seq of the items in this seq transformed by xform
+     * @see ITransducer
+     */
+    <R> ISeq<R> sequence(ITransducer<T, R> xform);
+
     /**
      * Calls {@code proc} for each item in this seq for purposes of side effects, {@code proc} being a consumer function
      * taking one argument and returning void.
@@ -687,15 +1058,29 @@ public interface ISeq<T> extends List<T> {
     void run(Consumer<? super T> proc);
 
     /**
-     * Returns a seq of the items of this seq with duplicates removed.
+     * Returns a lazy seq of the items of this seq with duplicates removed, in the order in which they were encountered
+     * first.
      * <p>
-     * <b>Caution:</b> The seq will be fully realized. If this seq is infinite, it will run infinitely or until system
-     * resources are exhausted.
+     * <b>Caution:</b> If this seq is infinite but contains only a finite number of distinct items, the returned seq
+     * will run infinitely or until system resources are exhausted when realized past the last distinct item.
      *
      * @return a seq of the items of this seq with duplicates removed
      */
     ISeq<T> distinct();
 
+    /**
+     * Returns a lazy seq of the items of this seq for which f returns a key that has not been returned for a previous
+     * item, in the order in which they were encountered first.
+     * <p>
+     * <b>Caution:</b> If this seq is infinite but contains only a finite number of distinct keys, the returned seq will
+     * run infinitely or until system resources are exhausted when realized past the last distinct item.
+     *
+     * @param f   function returning the key to compare items by
+     * @param <K> the type of the keys
+     * @return a seq of the items of this seq with the first item for each distinct key
+     */
+    <K> ISeq<T> distinctBy(Function<? super T, ? extends K> f);
+
     /**
      * Returns a seq of the items of this seq sorted by using compare.
      * <p>
@@ -717,6 +1102,28 @@ public interface ISeq<T> extends List<T> {
      */
     ISeq<T> sorted(Comparator<? super T> comp);
 
+    /**
+     * Returns a lazy seq of the items of this seq sorted by using supplied comparator {@code comp}, which does not
+     * need to fit into memory. When the returned seq is realized, this seq is sorted in runs of at most
+     * {@code maxInMemory} items, which are written to temporary files with {@code serializer}. At most 64 runs are
+     * merged at once; more runs are first merged into intermediate files in several passes. The remaining runs are
+     * merged lazily, so that only one item per run is kept in memory. If this seq contains no more than maxInMemory
+     * items, no files are written.
+     * <p>
+     * Temporary files are deleted once they have been read completely, so the returned seq should be realized fully.
+     * To sort seqs larger than the heap, do not hold on to the head of this seq.
+     * <p>
+     * <b>Caution:</b> This seq will be fully realized when the returned seq is realized. If this seq is infinite, it
+     * will run infinitely or until system resources are exhausted.
+     *
+     * @param comp        the comparator
+     * @param serializer  the serializer to write items to and read them from temporary files with
+     * @param maxInMemory the maximum number of items to sort in memory at once
+     * @return a lazy seq of the items of this seq sorted by using supplied comparator
+     * @throws IllegalArgumentException if maxInMemory is less than 1
+     */
+    ISeq<T> sortedExternal(Comparator<? super T> comp, ISerializer<T> serializer, int maxInMemory);
+
     /**
      * Returns a seq of the items of this seq in reversed order.
      * <p>
@@ -854,6 +1261,58 @@ public interface ISeq<T> extends List<T> {
      */
     String str();
 
+    /**
+     * Returns the concatenation of {@code x.toString()} of all items x in this seq, separated by {@code separator} and
+     * enclosed in {@code prefix} and {@code suffix}. Returns the concatenation of prefix and suffix if the seq is
+     * empty.
+     * <p>
+     * <b>Caution:</b> The seq will be fully realized. If this seq is infinite, it will run infinitely or until system
+     * resources are exhausted.
+     *
+     * @param separator the string to put between the string-representations of adjacent items
+     * @param prefix    the string to start with
+     * @param suffix    the string to end with
+     * @return the concatenation of the string-representation of all items in this seq, separated by separator and
+     * enclosed in prefix and suffix
+     */
+    String join(CharSequence separator, CharSequence prefix, CharSequence suffix);
+
+    /**
+     * Writes the concatenation of {@code x.toString()} of all items x in this seq to {@code writer} in blocks of 8192
+     * characters and flushes it. The writer is not closed.
+     * <p>
+     * <b>Caution:</b> The seq will be fully realized. If this seq is infinite, it will run infinitely or until system
+     * resources are exhausted.
+     *
+     * @param writer the writer to write to
+     */
+    void writeTo(Writer writer);
+
+    /**
+     * Writes the concatenation of {@code x.toString()} of all items x in this seq to {@code out}, encoded with
+     * {@code charset} in blocks of 64 KB, and flushes it. The stream is not closed.
+     * <p>
+     * <b>Caution:</b> The seq will be fully realized. If this seq is infinite, it will run infinitely or until system
+     * resources are exhausted.
+     *
+     * @param out     the stream to write to
+     * @param charset the charset to encode the characters with
+     */
+    void writeTo(OutputStream out, Charset charset);
+
+    /**
+     * Writes the concatenation of {@code x.toString()} of all items x in this seq to {@code channel}, encoded with
+     * {@code charset} in blocks of 64 KB. Characters of string chunks are encoded in bulk instead of one by one. The
+     * channel is not closed.
+     * <p>
+     * <b>Caution:</b> The seq will be fully realized. If this seq is infinite, it will run infinitely or until system
+     * resources are exhausted.
+     *
+     * @param channel the channel to write to
+     * @param charset the charset to encode the characters with
+     */
+    void writeTo(WritableByteChannel channel, Charset charset);
+
     /**
      * Returns the number of items in this seq.
      * <p>
@@ -947,8 +1406,53 @@ public interface ISeq<T> extends List<T> {
     <K, V> Map<K, V> toMap(Function<T, K> k, Function<T, V> v, BinaryOperator<V> m);
 
     /**
-     * Returns an immutable {@code java.util.List} with all items in this seq. Throws a {@code java.lang.NullPointerException}
-     * if any nulls are in this seq.
+     * Returns the Map supplied by {@code factory} after putting keys as a result of {@code k} applied to x and values
+     * as a result of {@code v} applied to x of all xs in this seq, using {@code m} applied to values for duplicate keys
+     * to resolve key-collision. Allows choosing the type of map, e.g. a {@code TreeMap}, or pre-sizing it, e.g.
+     * {@code () -> new HashMap<>(expectedSize * 4 / 3 + 1)}.
+     * <p>
+     * <b>Caution:</b> The seq will be fully realized. If this seq is infinite, it will run infinitely or until system
+     * resources are exhausted.
+     *
+     * @param k       the function to generate they key
+     * @param v       the function to generate the value
+     * @param m       the function to merge values for duplicate keys
+     * @param factory supplier of the map to put the entries into
+     * @param <K>     the type of they keys
+     * @param <V>     the type of the values
+     * @param <M>     the type of the map
+     * @return the map supplied by factory with entries generated by supplied functions k and v
+     * @throws NullPointerException if any key or value is {@code null}
+     */
+    <K, V, M extends Map<K, V>> M toMap(Function<T, K> k, Function<T, V> v, BinaryOperator<V> m, Supplier<M> factory);
+
+    /**
+     * Returns a new Map with keys as a result of {@code f} applied to x of all xs in this seq, and values as a list of
+     * the xs for which f returned that key, in the order in which they appear in this seq.
+     * <p>
+     * <b>Caution:</b> The seq will be fully realized. If this seq is infinite, it will run infinitely or until system
+     * resources are exhausted.
+     *
+     * @param f   the function to generate the key
+     * @param <K> the type of the keys
+     * @return a new Map of the items in this seq grouped by the result of applying f
+     */
+    <K> Map<K, List<T>> groupBy(Function<? super T, ? extends K> f);
+
+    /**
+     * Returns a new Map with the distinct items in this seq as keys and the number of times they appear in this seq
+     * as values.
+     * <p>
+     * <b>Caution:</b> The seq will be fully realized. If this seq is infinite, it will run infinitely or until system
+     * resources are exhausted.
+     *
+     * @return a new Map from each distinct item in this seq to the number of times it appears
+     */
+    Map<T, Long> frequencies();
+
+    /**
+     * Returns an unmodifiable {@code java.util.List} with all items in this seq, including nulls. The list is created
+     * once and returned again by subsequent calls.
      * <p>
      * <b>Caution:</b> The seq will be fully realized. If this seq is infinite, it will run infinitely or until system
      * resources are exhausted.
@@ -0,0 +1,77 @@
+package com.github.nylle.javaseq;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Writes items to and reads them back from a binary stream, e.g. to spill sorted runs to temporary files.
+ * {@link #read} must read exactly the bytes written by {@link #write}.
+ * <p>
+ * A serializer for strings is {@code ISerializer.of(DataOutput::writeUTF, DataInput::readUTF)}.
+ *
+ * @param <T> the type of items
+ * @see ISeq#sortedExternal
+ */
+public interface ISerializer<T> {
+
+    /**
+     * Writes {@code x} to {@code out}.
+     *
+     * @param out the stream to write to
+     * @param x   the item to be written
+     * @throws IOException if writing fails
+     */
+    void write(DataOutput out, T x) throws IOException;
+
+    /**
+     * Reads the next item from {@code in}.
+     *
+     * @param in the stream to read from
+     * @return the item read
+     * @throws IOException if reading fails
+     */
+    T read(DataInput in) throws IOException;
+
+    /**
+     * Returns a serializer writing items with {@code write} and reading them with {@code read}.
+     *
+     * @param write the function writing an item
+     * @param read  the function reading an item
+     * @param <T>   the type of items
+     * @return a serializer using write and read
+     */
+    static <T> ISerializer<T> of(Writer<T> write, Reader<T> read) {
+        return new ISerializer<>() {
+            @Override
+            public void write(DataOutput out, T x) throws IOException {
+                write.write(out, x);
+            }
+
+            @Override
+            public T read(DataInput in) throws IOException {
+                return read.read(in);
+            }
+        };
+    }
+
+    /**
+     * Writes an item to a binary stream.
+     *
+     * @param <T> the type of items
+     */
+    @FunctionalInterface
+    interface Writer<T> {
+        void write(DataOutput out, T x) throws IOException;
+    }
+
+    /**
+     * Reads an item from a binary stream.
+     *
+     * @param <T> the type of items
+     */
+    @FunctionalInterface
+    interface Reader<T> {
+        T read(DataInput in) throws IOException;
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.nylle.javaseq;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A composable transformation of reducing functions. A transducer turns a reducing function that accepts items of
+ * type {@code R} into a reducing function that accepts items of type {@code T}, which allows multi-step pipelines to
+ * run as a single pass over a seq without creating intermediate seqs.
+ * <p>
+ * Transducers are built starting from {@link #of()}, e.g.
+ * {@code ITransducer.<Integer>of().map(x -> x * 2).filter(x -> x > 3).take(5)}, and are run by
+ * {@link ISeq#transduce}, {@link ISeq#sequence} and {@link ISeq#eduction}. The transformed reducing functions are
+ * internal to these, so that the state of stateful transducers (e.g. {@link #take}) is created per transduction.
+ *
+ * @param <T> the type of items accepted by the transformed reducing function
+ * @param <R> the type of items passed to the supplied reducing function
+ * @see ISeq#transduce
+ * @see ISeq#sequence
+ */
+public sealed interface ITransducer<T, R> permits ATransducer {
+
+    /**
+     * Returns the identity transducer, which passes all items on unchanged.
+     *
+     * @param <T> the type of items
+     * @return the identity transducer
+     */
+    static <T> ITransducer<T, T> of() {
+        return new ATransducer<>() {
+            @Override
+            <A> BiFunction<A, T, A> apply(BiFunction<A, ? super T, A> rf) {
+                return rf::apply;
+            }
+        };
+    }
+
+    /**
+     * Returns a transducer that applies this transducer first and then {@code next}.
+     *
+     * @param next the transducer to apply to the output of this transducer
+     * @param <S>  the type of items passed on by next
+     * @return the composition of this transducer and next
+     */
+    <S> ITransducer<T, S> comp(ITransducer<R, S> next);
+
+    /**
+     * Returns a transducer that passes on the result of applying {@code f} to each item.
+     *
+     * @param f   mapping function to apply to items
+     * @param <S> the type of the mapped items
+     * @return a transducer applying f to each item
+     */
+    <S> ITransducer<T, S> map(Function<? super R, ? extends S> f);
+
+    /**
+     * Returns a transducer that passes on the items for which {@code pred} returns true.
+     *
+     * @param pred predicate to test items with
+     * @return a transducer passing on the items for which pred returns true
+     */
+    ITransducer<T, R> filter(Predicate<? super R> pred);
+
+    /**
+     * Returns a transducer that passes on each item of the collection returned by applying {@code f} to each item.
+     *
+     * @param f   mapping function returning a collection
+     * @param <S> the type of items in the collections returned by f
+     * @return a transducer concatenating the results of applying f to each item
+     */
+    <S> ITransducer<T, S> mapcat(Function<? super R, ? extends Iterable<? extends S>> f);
+
+    /**
+     * Returns a transducer that passes on the first {@code n} items and then terminates the reduction.
+     *
+     * @param n the number of items to pass on
+     * @return a transducer passing on the first n items
+     */
+    ITransducer<T, R> take(long n);
+
+    /**
+     * Returns a transducer that passes on all but the first {@code n} items.
+     *
+     * @param n the number of items to drop
+     * @return a transducer passing on all but the first n items
+     */
+    ITransducer<T, R> drop(long n);
+
+    /**
+     * Returns a transducer that passes on items while {@code pred} returns true and then terminates the reduction.
+     *
+     * @param pred predicate to test items with
+     * @return a transducer passing on successive items while pred returns true
+     */
+    ITransducer<T, R> takeWhile(Predicate<? super R> pred);
+
+    /**
+     * Returns a transducer that passes on the items starting from the first item for which {@code pred} returns false.
+     *
+     * @param pred predicate to test items with
+     * @return a transducer dropping items while pred returns true
+     */
+    ITransducer<T, R> dropWhile(Predicate<? super R> pred);
+}
@@ -0,0 +1,43 @@
+package com.github.nylle.javaseq;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Iterator over a range of indices of an indexed source, which reads items directly by index without creating a rest
+ * seq per item.
+ */
+class IndexedIterator<T> implements Iterator<T> {
+
+    private final IntFunction<? extends T> items;
+    private int index;
+    private final int end;
+
+    IndexedIterator(IntFunction<? extends T> items, int index, int end) {
+        this.items = items;
+        this.index = index;
+        this.end = end;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < end;
+    }
+
+    @Override
+    public T next() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return items.apply(index++);
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        for (; index < end; index++) {
+            action.accept(items.apply(index));
+        }
+    }
+}
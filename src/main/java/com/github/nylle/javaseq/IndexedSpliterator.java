@@ -0,0 +1,61 @@
+package com.github.nylle.javaseq;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Spliterator over a range of indices of an indexed source, which splits the range in halves in constant time and
+ * always reports its exact size.
+ */
+class IndexedSpliterator<T> implements Spliterator<T> {
+
+    private final IntFunction<? extends T> items;
+    private final int characteristics;
+    private int index;
+    private final int end;
+
+    IndexedSpliterator(IntFunction<? extends T> items, int index, int end, int characteristics) {
+        this.items = items;
+        this.index = index;
+        this.end = end;
+        this.characteristics = characteristics | ORDERED | IMMUTABLE | SIZED | SUBSIZED;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (index < end) {
+            action.accept(items.apply(index++));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        for (; index < end; index++) {
+            action.accept(items.apply(index));
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        var mid = (index + end) >>> 1;
+        if (mid <= index) {
+            return null;
+        }
+        var prefix = new IndexedSpliterator<T>(items, index, mid, characteristics);
+        index = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+}
@@ -0,0 +1,104 @@
+package com.github.nylle.javaseq;
+
+import java.nio.IntBuffer;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A chunk viewing the {@code int}s between {@code offset} and {@code end} of a buffer, which is read with absolute
+ * gets and never copied. If the buffer is a view of a direct or memory-mapped {@code ByteBuffer}, the items are stored
+ * off-heap and traversing them allocates nothing. The results of {@link #map} and {@link #filter} are on-heap.
+ */
+class IntBufferChunk implements IIntChunk {
+
+    private final IntBuffer buffer;
+    private final int offset;
+    private final int end;
+
+    IntBufferChunk(IntBuffer buffer) {
+        this(buffer.slice(), 0, buffer.remaining());
+    }
+
+    private IntBufferChunk(IntBuffer buffer, int offset, int end) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.end = end;
+    }
+
+    @Override
+    public Integer nth(int n) {
+        return intNth(n);
+    }
+
+    @Override
+    public int intNth(int n) {
+        if (n < 0 || (offset + n) >= end) {
+            throw new IndexOutOfBoundsException("Index " + n + " out of bounds for length " + count());
+        }
+        return buffer.get(offset + n);
+    }
+
+    @Override
+    public IntBufferChunk dropFirst() {
+        return new IntBufferChunk(buffer, offset + 1, end);
+    }
+
+    @Override
+    public IntBufferChunk dropLast(int n) {
+        return new IntBufferChunk(buffer, offset, end - n);
+    }
+
+    @Override
+    public IntBufferChunk drop(int n) {
+        return new IntBufferChunk(buffer, offset + n, end);
+    }
+
+    @Override
+    public IntBufferChunk slice(int from, int to) {
+        return new IntBufferChunk(buffer, offset + from, offset + to);
+    }
+
+    @Override
+    public int count() {
+        return end - offset;
+    }
+
+    @Override
+    public int reduce(int val, IntBinaryOperator f) {
+        var result = val;
+        for (int i = offset; i < end; i++) {
+            result = f.applyAsInt(result, buffer.get(i));
+        }
+        return result;
+    }
+
+    @Override
+    public IntChunk map(IntUnaryOperator f) {
+        var result = new int[count()];
+        for (int i = offset; i < end; i++) {
+            result[i - offset] = f.applyAsInt(buffer.get(i));
+        }
+        return new IntChunk(result);
+    }
+
+    @Override
+    public IntChunk filter(IntPredicate pred) {
+        var result = new int[count()];
+        var n = 0;
+        for (int i = offset; i < end; i++) {
+            var x = buffer.get(i);
+            if (pred.test(x)) {
+                result[n++] = x;
+            }
+        }
+        return new IntChunk(result, 0, n);
+    }
+
+    @Override
+    public int[] toArray() {
+        var result = new int[count()];
+        buffer.get(offset, result);
+        return result;
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.nylle.javaseq;
+
+import java.util.Arrays;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+public class IntChunk implements IIntChunk {
+
+    private final int[] array;
+    private final int offset;
+    private final int end;
+
+    IntChunk(int[] array) {
+        this.array = array;
+        this.offset = 0;
+        this.end = array.length;
+    }
+
+    IntChunk(int[] array, int offset, int end) {
+        this.array = array;
+        this.offset = offset;
+        this.end = end;
+    }
+
+    @Override
+    public Integer nth(int n) {
+        return intNth(n);
+    }
+
+    public int intNth(int n) {
+        if (n < 0 || (offset + n) >= end) {
+            throw new IndexOutOfBoundsException("Index " + n + " out of bounds for length " + count());
+        }
+        return array[offset + n];
+    }
+
+    @Override
+    public IntChunk dropFirst() {
+        return new IntChunk(array, offset + 1, end);
+    }
+
+    @Override
+    public IntChunk dropLast(int n) {
+        return new IntChunk(array, offset, end - n);
+    }
+
+    @Override
+    public IntChunk drop(int n) {
+        return new IntChunk(array, offset + n, end);
+    }
+
+    @Override
+    public IntChunk slice(int from, int to) {
+        return new IntChunk(array, offset + from, offset + to);
+    }
+
+    @Override
+    public int count() {
+        return end - offset;
+    }
+
+    public int reduce(int val, IntBinaryOperator f) {
+        var result = val;
+        for (int i = offset; i < end; i++) {
+            result = f.applyAsInt(result, array[i]);
+        }
+        return result;
+    }
+
+    public IntChunk map(IntUnaryOperator f) {
+        var result = new int[count()];
+        for (int i = offset; i < end; i++) {
+            result[i - offset] = f.applyAsInt(array[i]);
+        }
+        return new IntChunk(result);
+    }
+
+    public IntChunk filter(IntPredicate pred) {
+        var result = new int[count()];
+        var n = 0;
+        for (int i = offset; i < end; i++) {
+            if (pred.test(array[i])) {
+                result[n++] = array[i];
+            }
+        }
+        return new IntChunk(result, 0, n);
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOfRange(array, offset, end);
+    }
+}
@@ -0,0 +1,249 @@
+package com.github.nylle.javaseq;
+
+import java.util.Iterator;
+import java.util.OptionalInt;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A fully realized seq of primitive {@code int}s. Items are only boxed when accessed through the generic
+ * {@code ISeq<Integer>} interface; the primitive operations ({@link #mapInt}, {@link #filterInt}, {@link #reduceInt},
+ * {@link #sum}, {@link #min()}, {@link #max()}) never box.
+ */
+public class IntSeq extends ASeq<Integer> implements ISeq<Integer>, ICounted {
+
+    private static final IntSeq EMPTY = new IntSeq(new IntChunk(new int[0]));
+
+    private final IIntChunk chunk;
+
+    IntSeq(IIntChunk chunk) {
+        this.chunk = chunk;
+    }
+
+    static IntSeq empty() {
+        return EMPTY;
+    }
+
+    @Override
+    public Integer first() {
+        return isEmpty() ? null : chunk.intNth(0);
+    }
+
+    @Override
+    public IntSeq rest() {
+        if (chunk.count() > 1) {
+            return new IntSeq(chunk.dropFirst());
+        }
+        return EMPTY;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return chunk.count() == 0;
+    }
+
+    @Override
+    public boolean isRealized() {
+        return true;
+    }
+
+    @Override
+    public IntSeq take(long n) {
+        if (n >= chunk.count()) {
+            return this;
+        }
+        if (n > 0) {
+            return new IntSeq(chunk.dropLast(chunk.count() - (int) n));
+        }
+        return EMPTY;
+    }
+
+    @Override
+    public IntSeq drop(long n) {
+        if (n >= chunk.count()) {
+            return EMPTY;
+        }
+        if (n > 0) {
+            return new IntSeq(chunk.drop((int) n));
+        }
+        return this;
+    }
+
+    @Override
+    public <U> U reduce(U val, BiFunction<U, ? super Integer, U> f) {
+        var result = val;
+        for (int i = 0; i < chunk.count(); i++) {
+            result = f.apply(result, chunk.intNth(i));
+        }
+        return result;
+    }
+
+    @Override
+    public <U> U fold(int n, Supplier<U> init, BinaryOperator<U> combine, BiFunction<U, ? super Integer, U> reduce) {
+        return Util.fold(this, n, init, combine, reduce);
+    }
+
+    @Override
+    public boolean some(Predicate<? super Integer> pred) {
+        for (int i = 0; i < chunk.count(); i++) {
+            if (pred.test(chunk.intNth(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean every(Predicate<? super Integer> pred) {
+        for (int i = 0; i < chunk.count(); i++) {
+            if (!pred.test(chunk.intNth(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected Integer nth(int index, Supplier<Integer> notFound) {
+        if (index < 0 || index >= chunk.count()) {
+            return notFound.get();
+        }
+        return chunk.intNth(index);
+    }
+
+    @Override
+    public int count() {
+        return chunk.count();
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        return new IndexedIterator<>(chunk::nth, 0, chunk.count());
+    }
+
+    @Override
+    public Spliterator<Integer> spliterator() {
+        return new IndexedSpliterator<>(chunk::nth, 0, chunk.count(), Spliterator.NONNULL);
+    }
+
+    @Override
+    public Object[] toArray() {
+        var result = new Object[chunk.count()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = chunk.intNth(i);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the {@code int} at {@code index} in this seq without boxing it.
+     *
+     * @param index the index of the item to be returned
+     * @return the item at index in this seq
+     * @throws IndexOutOfBoundsException if index is out of bounds
+     */
+    public int nthInt(int index) {
+        return chunk.intNth(index);
+    }
+
+    /**
+     * Returns a seq of the result of applying {@code f} to each item in this seq.
+     *
+     * @param f the mapping function
+     * @return a seq of the result of applying f to each item in this seq
+     */
+    public IntSeq mapInt(IntUnaryOperator f) {
+        return new IntSeq(chunk.map(f));
+    }
+
+    /**
+     * Returns a seq of the items in this seq for which {@code pred} returns true.
+     *
+     * @param pred the predicate to test items with
+     * @return a seq of the items in this seq for which pred returns true
+     */
+    public IntSeq filterInt(IntPredicate pred) {
+        return new IntSeq(chunk.filter(pred));
+    }
+
+    /**
+     * Returns the result of applying {@code f} to {@code val} and the first item in this seq, then applying {@code f}
+     * to that result and the 2nd item, etc. Returns val if this seq is empty.
+     *
+     * @param val the initial value
+     * @param f   the reducing function
+     * @return the result of the reduction
+     */
+    public int reduceInt(int val, IntBinaryOperator f) {
+        return chunk.reduce(val, f);
+    }
+
+    /**
+     * Returns the sum of all items in this seq, or 0 if this seq is empty.
+     *
+     * @return the sum of all items in this seq
+     */
+    public long sum() {
+        long result = 0;
+        for (int i = 0; i < chunk.count(); i++) {
+            result += chunk.intNth(i);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the least item in this seq, or an empty {@code OptionalInt} if this seq is empty.
+     *
+     * @return the least item in this seq
+     */
+    public OptionalInt min() {
+        if (isEmpty()) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(reduceInt(chunk.intNth(0), Math::min));
+    }
+
+    /**
+     * Returns the greatest item in this seq, or an empty {@code OptionalInt} if this seq is empty.
+     *
+     * @return the greatest item in this seq
+     */
+    public OptionalInt max() {
+        if (isEmpty()) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(reduceInt(chunk.intNth(0), Math::max));
+    }
+
+    /**
+     * Returns a seq of the result of applying {@code f} to each item in this seq.
+     *
+     * @param f   the mapping function
+     * @param <R> the type of items in the returned seq
+     * @return a seq of the result of applying f to each item in this seq
+     */
+    @SuppressWarnings("unchecked")
+    public <R> ISeq<R> mapToObj(IntFunction<? extends R> f) {
+        var result = new Object[chunk.count()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = f.apply(chunk.intNth(i));
+        }
+        return Util.arraySeq((R[]) result);
+    }
+
+    /**
+     * Returns a new array with all items in this seq.
+     *
+     * @return an array with all items in this seq
+     */
+    public int[] toIntArray() {
+        return chunk.toArray();
+    }
+}
@@ -1,29 +1,93 @@
 package com.github.nylle.javaseq;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Spliterator;
+import java.util.concurrent.CountDownLatch;
 import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
 import java.util.function.Supplier;
 
 class LazySeq<T> extends ASeq<T> implements ISeq<T> {
-    private volatile ISeq<T> seq;
-    private final Supplier<ISeq<T>> fn;
+
+    private static final VarHandle STATE;
+
+    static {
+        try {
+            STATE = MethodHandles.lookup().findVarHandle(LazySeq.class, "state", Object.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * The supplier while unrealized, the thread calling the supplier while it is being realized (replaced by a
+     * {@link Pending} as soon as another thread has to wait for it), and the realized seq afterwards.
+     */
+    private volatile Object state;
 
     LazySeq(Supplier<ISeq<T>> f) {
-        this.fn = f;
+        this.state = f;
+    }
+
+    @SuppressWarnings("unchecked")
+    ISeq<T> seq() {
+        var s = state;
+        if (s instanceof ISeq) {
+            return (ISeq<T>) s;
+        }
+        return realize();
     }
 
-    private ISeq<T> seq() {
-        if (!isRealized()) {
-            synchronized (this) {
-                if (!isRealized()) {
-                    seq = unwrap(fn.get());
+    @SuppressWarnings("unchecked")
+    private ISeq<T> realize() {
+        while (true) {
+            var s = state;
+            if (s instanceof ISeq) {
+                return (ISeq<T>) s;
+            }
+            if (s instanceof Thread owner) {
+                if (owner == Thread.currentThread()) {
+                    throw new IllegalStateException("seq is already being realized by this thread");
+                }
+                var pending = new Pending(owner);
+                if (STATE.compareAndSet(this, s, pending)) {
+                    pending.awaitRealized();
+                }
+                continue;
+            }
+            if (s instanceof Pending pending) {
+                pending.awaitRealized();
+                continue;
+            }
+            var owner = Thread.currentThread();
+            if (STATE.compareAndSet(this, s, owner)) {
+                Object next = s;
+                try {
+                    var result = unwrap(((Supplier<ISeq<T>>) s).get());
+                    next = result == null ? s : result;
+                    return result;
+                } finally {
+                    release(owner, next);
                 }
             }
         }
-        return seq;
     }
 
-    private ISeq<T> unwrap(ISeq<T> seq) {
-        while(seq instanceof LazySeq<T> s) {
+    /**
+     * Replaces the realizing thread with {@code next}, which is the realized seq or the supplier if realization
+     * failed, and wakes up any threads that are waiting for it.
+     */
+    private void release(Thread owner, Object next) {
+        if (!STATE.compareAndSet(this, owner, next)) {
+            var pending = (Pending) state;
+            state = next;
+            pending.countDown();
+        }
+    }
+
+    static <T> ISeq<T> unwrap(ISeq<T> seq) {
+        while (seq instanceof LazySeq<T> s) {
             seq = s.seq();
         }
         return seq;
@@ -44,9 +108,14 @@ class LazySeq<T> extends ASeq<T> implements ISeq<T> {
         return seq().isEmpty();
     }
 
+    @Override
+    boolean cachesHashCode() {
+        return seq() instanceof ASeq<T> aSeq && aSeq.cachesHashCode();
+    }
+
     @Override
     public boolean isRealized() {
-        return seq != null;
+        return state instanceof ISeq;
     }
 
     @Override
@@ -54,6 +123,11 @@ class LazySeq<T> extends ASeq<T> implements ISeq<T> {
         return seq().reduce(val, f);
     }
 
+    @Override
+    public <U> U fold(int n, Supplier<U> init, BinaryOperator<U> combine, BiFunction<U, ? super T, U> reduce) {
+        return seq().fold(n, init, combine, reduce);
+    }
+
     @Override
     public T nth(int index) {
         return seq().nth(index);
@@ -69,6 +143,27 @@ class LazySeq<T> extends ASeq<T> implements ISeq<T> {
         return seq().count();
     }
 
+    @Override
+    StringBuilder appendTo(StringBuilder sb, CharSequence separator) {
+        if (seq() instanceof ASeq<T> aSeq) {
+            return aSeq.appendTo(sb, separator);
+        }
+        return super.appendTo(sb, separator);
+    }
+
+    @Override
+    CharSink writeTo(CharSink sink) {
+        if (seq() instanceof ASeq<T> aSeq) {
+            return aSeq.writeTo(sink);
+        }
+        return super.writeTo(sink);
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new SeqSpliterator<>(this);
+    }
+
     @Override
     public Object[] toArray() {
         return seq().toArray();
@@ -83,4 +178,36 @@ class LazySeq<T> extends ASeq<T> implements ISeq<T> {
     public int lastIndexOf(Object o) {
         return seq().lastIndexOf(o);
     }
-}
\ No newline at end of file
+
+    /**
+     * Marks a seq that is being realized by another thread. Waiting threads park on the latch instead of a monitor, so
+     * that virtual threads do not pin their carrier.
+     */
+    private static final class Pending extends CountDownLatch {
+
+        private final Thread owner;
+
+        Pending(Thread owner) {
+            super(1);
+            this.owner = owner;
+        }
+
+        void awaitRealized() {
+            if (owner == Thread.currentThread()) {
+                throw new IllegalStateException("seq is already being realized by this thread");
+            }
+            var interrupted = false;
+            while (true) {
+                try {
+                    super.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.github.nylle.javaseq;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.util.function.Supplier;
+
+/**
+ * Splits the characters of successive buffers into lines. A line is terminated by a line feed, a carriage return or a
+ * carriage return followed by a line feed, like in {@link java.io.BufferedReader#readLine()}, and the terminators are
+ * not part of the lines.
+ * <p>
+ * Lines are collected into chunks of up to {@code chunkSize} lines. Splitters created by {@link #views} return every
+ * line that lies within a single buffer as a read-only view of that buffer instead of a copy, and only copy lines
+ * spanning buffers into a string. Since the buffers are never reused, the views stay valid, but they keep their whole
+ * buffer reachable.
+ */
+final class LineSplitter<T extends CharSequence> {
+
+    private final Supplier<CharBuffer> buffers;
+    private final int chunkSize;
+    private final boolean views;
+    private CharBuffer chars = CharBuffer.allocate(0);
+    private CharBuffer readOnly;
+    private StringBuilder pending;
+    private boolean skipLineFeed = false;
+    private boolean eof = false;
+
+    private LineSplitter(Supplier<CharBuffer> buffers, int chunkSize, boolean views) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunk size must be greater than 0");
+        }
+        this.buffers = buffers;
+        this.chunkSize = chunkSize;
+        this.views = views;
+    }
+
+    /**
+     * Returns a splitter that copies every line into a string.
+     */
+    static LineSplitter<String> strings(Supplier<CharBuffer> buffers, int chunkSize) {
+        return new LineSplitter<>(buffers, chunkSize, false);
+    }
+
+    /**
+     * Returns a splitter that returns lines within a single buffer as read-only views of that buffer.
+     */
+    static LineSplitter<CharSequence> views(Supplier<CharBuffer> buffers, int chunkSize) {
+        return new LineSplitter<>(buffers, chunkSize, true);
+    }
+
+    /**
+     * Returns a supplier of buffers of up to {@code bufferSize} characters read from {@code reader}, which supplies an
+     * empty buffer once the reader is exhausted.
+     */
+    static Supplier<CharBuffer> buffers(Reader reader, int bufferSize) {
+        return () -> {
+            var chars = CharBuffer.allocate(bufferSize);
+            try {
+                var read = 0;
+                while (chars.hasRemaining() && read >= 0) {
+                    read = reader.read(chars);
+                }
+            } catch (IOException ex) {
+                throw new IllegalStateException("unexpected IO error", ex);
+            }
+            return chars.flip();
+        };
+    }
+
+    /**
+     * Returns a lazy seq of the lines, which reads the next buffer only when the seq is realized past the lines of the
+     * previous one.
+     */
+    @SuppressWarnings("unchecked")
+    ISeq<T> seq() {
+        return Util.lazySeq(() -> {
+            var lines = (T[]) new CharSequence[chunkSize];
+            var n = next(lines);
+            if (n == 0) {
+                return Util.nil();
+            }
+            return new ChunkedCons<>(new ArrayChunk<>(lines, 0, n), seq());
+        });
+    }
+
+    private int next(CharSequence[] lines) {
+        var n = 0;
+        while (n < lines.length) {
+            if (!chars.hasRemaining()) {
+                if (eof) {
+                    break;
+                }
+                chars = buffers.get();
+                readOnly = views ? chars.asReadOnlyBuffer() : null;
+                if (!chars.hasRemaining()) {
+                    eof = true;
+                    if (pending != null) {
+                        lines[n++] = pending.toString();
+                        pending = null;
+                    }
+                    break;
+                }
+            }
+            var start = chars.position();
+            if (skipLineFeed) { // the previous buffer ended with a carriage return
+                skipLineFeed = false;
+                if (chars.get(start) == '\n') {
+                    chars.position(start + 1);
+                    continue;
+                }
+            }
+            var end = start;
+            while (end < chars.limit() && chars.get(end) != '\n' && chars.get(end) != '\r') {
+                end++;
+            }
+            if (end == chars.limit()) {
+                pending = (pending == null ? new StringBuilder() : pending).append(chars.array(), chars.arrayOffset() + start, end - start);
+                chars.position(end);
+                continue;
+            }
+            lines[n++] = line(start, end);
+            if (chars.get(end) == '\r') {
+                if (end + 1 == chars.limit()) {
+                    skipLineFeed = true;
+                } else if (chars.get(end + 1) == '\n') {
+                    end++;
+                }
+            }
+            chars.position(end + 1);
+        }
+        return n;
+    }
+
+    private CharSequence line(int start, int end) {
+        if (pending != null) {
+            var line = pending.append(chars.array(), chars.arrayOffset() + start, end - start).toString();
+            pending = null;
+            return line;
+        }
+        if (views) {
+            return readOnly.slice(start, end - start);
+        }
+        return new String(chars.array(), chars.arrayOffset() + start, end - start);
+    }
+}
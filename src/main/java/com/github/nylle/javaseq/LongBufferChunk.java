@@ -0,0 +1,104 @@
+package com.github.nylle.javaseq;
+
+import java.nio.LongBuffer;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A chunk viewing the {@code long}s between {@code offset} and {@code end} of a buffer, which is read with absolute
+ * gets and never copied. If the buffer is a view of a direct or memory-mapped {@code ByteBuffer}, the items are stored
+ * off-heap and traversing them allocates nothing. The results of {@link #map} and {@link #filter} are on-heap.
+ */
+class LongBufferChunk implements ILongChunk {
+
+    private final LongBuffer buffer;
+    private final int offset;
+    private final int end;
+
+    LongBufferChunk(LongBuffer buffer) {
+        this(buffer.slice(), 0, buffer.remaining());
+    }
+
+    private LongBufferChunk(LongBuffer buffer, int offset, int end) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.end = end;
+    }
+
+    @Override
+    public Long nth(int n) {
+        return longNth(n);
+    }
+
+    @Override
+    public long longNth(int n) {
+        if (n < 0 || (offset + n) >= end) {
+            throw new IndexOutOfBoundsException("Index " + n + " out of bounds for length " + count());
+        }
+        return buffer.get(offset + n);
+    }
+
+    @Override
+    public LongBufferChunk dropFirst() {
+        return new LongBufferChunk(buffer, offset + 1, end);
+    }
+
+    @Override
+    public LongBufferChunk dropLast(int n) {
+        return new LongBufferChunk(buffer, offset, end - n);
+    }
+
+    @Override
+    public LongBufferChunk drop(int n) {
+        return new LongBufferChunk(buffer, offset + n, end);
+    }
+
+    @Override
+    public LongBufferChunk slice(int from, int to) {
+        return new LongBufferChunk(buffer, offset + from, offset + to);
+    }
+
+    @Override
+    public int count() {
+        return end - offset;
+    }
+
+    @Override
+    public long reduce(long val, LongBinaryOperator f) {
+        var result = val;
+        for (int i = offset; i < end; i++) {
+            result = f.applyAsLong(result, buffer.get(i));
+        }
+        return result;
+    }
+
+    @Override
+    public LongChunk map(LongUnaryOperator f) {
+        var result = new long[count()];
+        for (int i = offset; i < end; i++) {
+            result[i - offset] = f.applyAsLong(buffer.get(i));
+        }
+        return new LongChunk(result);
+    }
+
+    @Override
+    public LongChunk filter(LongPredicate pred) {
+        var result = new long[count()];
+        var n = 0;
+        for (int i = offset; i < end; i++) {
+            var x = buffer.get(i);
+            if (pred.test(x)) {
+                result[n++] = x;
+            }
+        }
+        return new LongChunk(result, 0, n);
+    }
+
+    @Override
+    public long[] toArray() {
+        var result = new long[count()];
+        buffer.get(offset, result);
+        return result;
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.nylle.javaseq;
+
+import java.util.Arrays;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+public class LongChunk implements ILongChunk {
+
+    private final long[] array;
+    private final int offset;
+    private final int end;
+
+    LongChunk(long[] array) {
+        this.array = array;
+        this.offset = 0;
+        this.end = array.length;
+    }
+
+    LongChunk(long[] array, int offset, int end) {
+        this.array = array;
+        this.offset = offset;
+        this.end = end;
+    }
+
+    @Override
+    public Long nth(int n) {
+        return longNth(n);
+    }
+
+    public long longNth(int n) {
+        if (n < 0 || (offset + n) >= end) {
+            throw new IndexOutOfBoundsException("Index " + n + " out of bounds for length " + count());
+        }
+        return array[offset + n];
+    }
+
+    @Override
+    public LongChunk dropFirst() {
+        return new LongChunk(array, offset + 1, end);
+    }
+
+    @Override
+    public LongChunk dropLast(int n) {
+        return new LongChunk(array, offset, end - n);
+    }
+
+    @Override
+    public LongChunk drop(int n) {
+        return new LongChunk(array, offset + n, end);
+    }
+
+    @Override
+    public LongChunk slice(int from, int to) {
+        return new LongChunk(array, offset + from, offset + to);
+    }
+
+    @Override
+    public int count() {
+        return end - offset;
+    }
+
+    public long reduce(long val, LongBinaryOperator f) {
+        var result = val;
+        for (int i = offset; i < end; i++) {
+            result = f.applyAsLong(result, array[i]);
+        }
+        return result;
+    }
+
+    public LongChunk map(LongUnaryOperator f) {
+        var result = new long[count()];
+        for (int i = offset; i < end; i++) {
+            result[i - offset] = f.applyAsLong(array[i]);
+        }
+        return new LongChunk(result);
+    }
+
+    public LongChunk filter(LongPredicate pred) {
+        var result = new long[count()];
+        var n = 0;
+        for (int i = offset; i < end; i++) {
+            if (pred.test(array[i])) {
+                result[n++] = array[i];
+            }
+        }
+        return new LongChunk(result, 0, n);
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOfRange(array, offset, end);
+    }
+}
@@ -0,0 +1,249 @@
+package com.github.nylle.javaseq;
+
+import java.util.Iterator;
+import java.util.OptionalLong;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A fully realized seq of primitive {@code long}s. Items are only boxed when accessed through the generic
+ * {@code ISeq<Long>} interface; the primitive operations ({@link #mapLong}, {@link #filterLong}, {@link #reduceLong},
+ * {@link #sum}, {@link #min()}, {@link #max()}) never box.
+ */
+public class LongSeq extends ASeq<Long> implements ISeq<Long>, ICounted {
+
+    private static final LongSeq EMPTY = new LongSeq(new LongChunk(new long[0]));
+
+    private final ILongChunk chunk;
+
+    LongSeq(ILongChunk chunk) {
+        this.chunk = chunk;
+    }
+
+    static LongSeq empty() {
+        return EMPTY;
+    }
+
+    @Override
+    public Long first() {
+        return isEmpty() ? null : chunk.longNth(0);
+    }
+
+    @Override
+    public LongSeq rest() {
+        if (chunk.count() > 1) {
+            return new LongSeq(chunk.dropFirst());
+        }
+        return EMPTY;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return chunk.count() == 0;
+    }
+
+    @Override
+    public boolean isRealized() {
+        return true;
+    }
+
+    @Override
+    public LongSeq take(long n) {
+        if (n >= chunk.count()) {
+            return this;
+        }
+        if (n > 0) {
+            return new LongSeq(chunk.dropLast(chunk.count() - (int) n));
+        }
+        return EMPTY;
+    }
+
+    @Override
+    public LongSeq drop(long n) {
+        if (n >= chunk.count()) {
+            return EMPTY;
+        }
+        if (n > 0) {
+            return new LongSeq(chunk.drop((int) n));
+        }
+        return this;
+    }
+
+    @Override
+    public <U> U reduce(U val, BiFunction<U, ? super Long, U> f) {
+        var result = val;
+        for (int i = 0; i < chunk.count(); i++) {
+            result = f.apply(result, chunk.longNth(i));
+        }
+        return result;
+    }
+
+    @Override
+    public <U> U fold(int n, Supplier<U> init, BinaryOperator<U> combine, BiFunction<U, ? super Long, U> reduce) {
+        return Util.fold(this, n, init, combine, reduce);
+    }
+
+    @Override
+    public boolean some(Predicate<? super Long> pred) {
+        for (int i = 0; i < chunk.count(); i++) {
+            if (pred.test(chunk.longNth(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean every(Predicate<? super Long> pred) {
+        for (int i = 0; i < chunk.count(); i++) {
+            if (!pred.test(chunk.longNth(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected Long nth(int index, Supplier<Long> notFound) {
+        if (index < 0 || index >= chunk.count()) {
+            return notFound.get();
+        }
+        return chunk.longNth(index);
+    }
+
+    @Override
+    public int count() {
+        return chunk.count();
+    }
+
+    @Override
+    public Iterator<Long> iterator() {
+        return new IndexedIterator<>(chunk::nth, 0, chunk.count());
+    }
+
+    @Override
+    public Spliterator<Long> spliterator() {
+        return new IndexedSpliterator<>(chunk::nth, 0, chunk.count(), Spliterator.NONNULL);
+    }
+
+    @Override
+    public Object[] toArray() {
+        var result = new Object[chunk.count()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = chunk.longNth(i);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the {@code long} at {@code index} in this seq without boxing it.
+     *
+     * @param index the index of the item to be returned
+     * @return the item at index in this seq
+     * @throws IndexOutOfBoundsException if index is out of bounds
+     */
+    public long nthLong(int index) {
+        return chunk.longNth(index);
+    }
+
+    /**
+     * Returns a seq of the result of applying {@code f} to each item in this seq.
+     *
+     * @param f the mapping function
+     * @return a seq of the result of applying f to each item in this seq
+     */
+    public LongSeq mapLong(LongUnaryOperator f) {
+        return new LongSeq(chunk.map(f));
+    }
+
+    /**
+     * Returns a seq of the items in this seq for which {@code pred} returns true.
+     *
+     * @param pred the predicate to test items with
+     * @return a seq of the items in this seq for which pred returns true
+     */
+    public LongSeq filterLong(LongPredicate pred) {
+        return new LongSeq(chunk.filter(pred));
+    }
+
+    /**
+     * Returns the result of applying {@code f} to {@code val} and the first item in this seq, then applying {@code f}
+     * to that result and the 2nd item, etc. Returns val if this seq is empty.
+     *
+     * @param val the initial value
+     * @param f   the reducing function
+     * @return the result of the reduction
+     */
+    public long reduceLong(long val, LongBinaryOperator f) {
+        return chunk.reduce(val, f);
+    }
+
+    /**
+     * Returns the sum of all items in this seq, or 0 if this seq is empty.
+     *
+     * @return the sum of all items in this seq
+     */
+    public long sum() {
+        long result = 0;
+        for (int i = 0; i < chunk.count(); i++) {
+            result += chunk.longNth(i);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the least item in this seq, or an empty {@code OptionalLong} if this seq is empty.
+     *
+     * @return the least item in this seq
+     */
+    public OptionalLong min() {
+        if (isEmpty()) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(reduceLong(chunk.longNth(0), Math::min));
+    }
+
+    /**
+     * Returns the greatest item in this seq, or an empty {@code OptionalLong} if this seq is empty.
+     *
+     * @return the greatest item in this seq
+     */
+    public OptionalLong max() {
+        if (isEmpty()) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(reduceLong(chunk.longNth(0), Math::max));
+    }
+
+    /**
+     * Returns a seq of the result of applying {@code f} to each item in this seq.
+     *
+     * @param f   the mapping function
+     * @param <R> the type of items in the returned seq
+     * @return a seq of the result of applying f to each item in this seq
+     */
+    @SuppressWarnings("unchecked")
+    public <R> ISeq<R> mapToObj(LongFunction<? extends R> f) {
+        var result = new Object[chunk.count()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = f.apply(chunk.longNth(i));
+        }
+        return Util.arraySeq((R[]) result);
+    }
+
+    /**
+     * Returns a new array with all items in this seq.
+     *
+     * @return an array with all items in this seq
+     */
+    public long[] toLongArray() {
+        return chunk.toArray();
+    }
+}
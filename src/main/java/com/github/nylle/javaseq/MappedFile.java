@@ -0,0 +1,164 @@
+package com.github.nylle.javaseq;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Provides lazy seqs over the contents of a file that is mapped into memory window by window, so that sequential scans
+ * read straight from the page cache instead of copying the bytes onto the heap first. A window is at most
+ * {@code windowSize} bytes long, which lets files larger than 2 GB be mapped. Windows are only mapped as the seq is
+ * realized, and each one is unmapped by the garbage collector once the seq no longer references it.
+ */
+final class MappedFile {
+
+    static final int WINDOW_SIZE = 1 << 30;
+    private static final int MIN_DECODER_WINDOW_SIZE = 64;
+
+    private final FileChannel channel;
+    private final long size;
+    private final int windowSize;
+    private final int chunkSize;
+
+    MappedFile(FileChannel channel, int chunkSize) {
+        this(channel, chunkSize, WINDOW_SIZE);
+    }
+
+    MappedFile(FileChannel channel, int chunkSize, int windowSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunk size must be greater than 0");
+        }
+        this.channel = channel;
+        this.size = size(channel);
+        this.chunkSize = chunkSize;
+        this.windowSize = Math.max(1, windowSize / chunkSize) * chunkSize; // chunks never span two windows
+    }
+
+    /**
+     * Returns a lazy seq of the bytes in the file, in chunks of up to {@code chunkSize} bytes viewing the mapped
+     * windows.
+     */
+    ISeq<Byte> bytes() {
+        return bytes(0);
+    }
+
+    /**
+     * Returns a lazy seq of the characters decoded from the bytes in the file, in chunks of up to {@code chunkSize}
+     * characters. ISO-8859-1 maps each byte to exactly one character, so those chunks are views of the mapped windows
+     * as well.
+     */
+    ISeq<Character> chars(Charset charset) {
+        if (charset.equals(StandardCharsets.ISO_8859_1)) {
+            return latin1(0);
+        }
+        return new MappedDecoder(charset).seq();
+    }
+
+    private ISeq<Byte> bytes(long position) {
+        return Util.lazySeq(() -> {
+            if (position >= size) {
+                return Util.nil();
+            }
+            return bytes(map(position, windowSize), 0, position);
+        });
+    }
+
+    private ISeq<Byte> bytes(ByteBuffer window, int offset, long position) {
+        if (offset == window.limit()) {
+            return bytes(position);
+        }
+        var end = Math.min(offset + chunkSize, window.limit());
+        return new ChunkedCons<>(new ByteChunk(window, offset, end), Util.lazySeq(() -> bytes(window, end, position + end - offset)));
+    }
+
+    private ISeq<Character> latin1(long position) {
+        return Util.lazySeq(() -> {
+            if (position >= size) {
+                return Util.nil();
+            }
+            return latin1(new Latin1Chars(map(position, windowSize)), 0, position);
+        });
+    }
+
+    private ISeq<Character> latin1(Latin1Chars window, int offset, long position) {
+        if (offset == window.length()) {
+            return latin1(position);
+        }
+        var end = Math.min(offset + chunkSize, window.length());
+        return new ChunkedCons<>(new StringChunk(window, offset, end), Util.lazySeq(() -> latin1(window, end, position + end - offset)));
+    }
+
+    private ByteBuffer map(long position, int length) {
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(length, size - position));
+        } catch (IOException ex) {
+            throw new IllegalStateException("unexpected IO error", ex);
+        }
+    }
+
+    private static long size(FileChannel channel) {
+        try {
+            return channel.size();
+        } catch (IOException ex) {
+            throw new IllegalStateException("unexpected IO error", ex);
+        }
+    }
+
+    /**
+     * Decodes the mapped windows directly. When a window ends within a multi-byte character, the next window is mapped
+     * from the first byte of that character, so no bytes need to be carried over between windows.
+     */
+    private final class MappedDecoder extends CharDecoder {
+
+        private long position = 0;
+
+        private MappedDecoder(Charset charset) {
+            super(ByteBuffer.allocate(0), charset, chunkSize);
+        }
+
+        @Override
+        ByteBuffer read(ByteBuffer bytes) {
+            position += bytes.position();
+            if (position + bytes.remaining() >= size) {
+                return null;
+            }
+            return map(position, Math.max(MIN_DECODER_WINDOW_SIZE, windowSize)); // always fits a whole character
+        }
+    }
+
+    /**
+     * Views the bytes of a window as ISO-8859-1 characters.
+     */
+    private static final class Latin1Chars implements CharSequence {
+
+        private final ByteBuffer bytes;
+
+        private Latin1Chars(ByteBuffer bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public int length() {
+            return bytes.limit();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (bytes.get(index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new Latin1Chars(bytes.slice(start, end - start));
+        }
+
+        @Override
+        public String toString() {
+            var bytes = new byte[this.bytes.limit()];
+            this.bytes.get(0, bytes);
+            return new String(bytes, StandardCharsets.ISO_8859_1);
+        }
+    }
+}
@@ -2,7 +2,7 @@ package com.github.nylle.javaseq;
 
 import java.util.function.Supplier;
 
-class Nil<T> extends ASeq<T> implements ISeq<T> {
+class Nil<T> extends ASeq<T> implements ISeq<T>, ICounted {
 
 	private static final Nil<?> NIL = new Nil<>();
 
@@ -38,7 +38,7 @@ class Nil<T> extends ASeq<T> implements ISeq<T> {
 
 	@Override
 	public boolean equals(Object o) {
-		return o instanceof Nil;
+		return o instanceof ISeq<?> seq && seq.isEmpty();
 	}
 
 	@Override
@@ -0,0 +1,165 @@
+package com.github.nylle.javaseq;
+
+import java.util.Objects;
+
+/**
+ * Immutable hash set implemented as a hash array mapped trie. Adding an item copies only the nodes on the path to the
+ * item, i.e. at most 7 arrays of at most 32 entries, and shares all other nodes with the original set.
+ */
+final class PersistentHashSet<T> {
+
+    private static final PersistentHashSet<?> EMPTY = new PersistentHashSet<>(null, 0);
+
+    private final Node root;
+    private final int count;
+
+    private PersistentHashSet(Node root, int count) {
+        this.root = root;
+        this.count = count;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> PersistentHashSet<T> empty() {
+        return (PersistentHashSet<T>) EMPTY;
+    }
+
+    int count() {
+        return count;
+    }
+
+    boolean contains(Object x) {
+        return root != null && root.contains(x, Objects.hashCode(x), 0);
+    }
+
+    /**
+     * Returns a set containing x and all items of this set, or this set if it already contains x.
+     */
+    PersistentHashSet<T> conj(T x) {
+        var hash = Objects.hashCode(x);
+        if (root == null) {
+            return new PersistentHashSet<>(new BitmapNode(bit(hash, 0), new Object[]{x}), 1);
+        }
+        var node = root.conj(x, hash, 0);
+        if (node == root) {
+            return this;
+        }
+        return new PersistentHashSet<>(node, count + 1);
+    }
+
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & 0x1f);
+    }
+
+    private static Node merge(Object a, int hashA, Object b, int hashB, int shift) {
+        if (hashA == hashB) {
+            return new CollisionNode(hashA, new Object[]{a, b});
+        }
+        var bitA = bit(hashA, shift);
+        var bitB = bit(hashB, shift);
+        if (bitA == bitB) {
+            return new BitmapNode(bitA, new Object[]{merge(a, hashA, b, hashB, shift + 5)});
+        }
+        return new BitmapNode(bitA | bitB, Integer.compareUnsigned(bitA, bitB) < 0 ? new Object[]{a, b} : new Object[]{b, a});
+    }
+
+    private interface Node {
+
+        boolean contains(Object x, int hash, int shift);
+
+        Node conj(Object x, int hash, int shift);
+    }
+
+    private static final class BitmapNode implements Node {
+
+        private final int bitmap;
+        private final Object[] entries;
+
+        BitmapNode(int bitmap, Object[] entries) {
+            this.bitmap = bitmap;
+            this.entries = entries;
+        }
+
+        private int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        public boolean contains(Object x, int hash, int shift) {
+            var bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return false;
+            }
+            var entry = entries[index(bit)];
+            if (entry instanceof Node node) {
+                return node.contains(x, hash, shift + 5);
+            }
+            return Objects.equals(entry, x);
+        }
+
+        @Override
+        public Node conj(Object x, int hash, int shift) {
+            var bit = bit(hash, shift);
+            var index = index(bit);
+            if ((bitmap & bit) == 0) {
+                var result = new Object[entries.length + 1];
+                System.arraycopy(entries, 0, result, 0, index);
+                result[index] = x;
+                System.arraycopy(entries, index, result, index + 1, entries.length - index);
+                return new BitmapNode(bitmap | bit, result);
+            }
+            var entry = entries[index];
+            Node node;
+            if (entry instanceof Node child) {
+                node = child.conj(x, hash, shift + 5);
+                if (node == child) {
+                    return this;
+                }
+            } else if (Objects.equals(entry, x)) {
+                return this;
+            } else {
+                node = merge(entry, Objects.hashCode(entry), x, hash, shift + 5);
+            }
+            var result = entries.clone();
+            result[index] = node;
+            return new BitmapNode(bitmap, result);
+        }
+    }
+
+    private static final class CollisionNode implements Node {
+
+        private final int hash;
+        private final Object[] items;
+
+        CollisionNode(int hash, Object[] items) {
+            this.hash = hash;
+            this.items = items;
+        }
+
+        @Override
+        public boolean contains(Object x, int hash, int shift) {
+            if (hash != this.hash) {
+                return false;
+            }
+            for (var item : items) {
+                if (Objects.equals(item, x)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Node conj(Object x, int hash, int shift) {
+            if (hash != this.hash) {
+                return new BitmapNode(bit(this.hash, shift), new Object[]{this}).conj(x, hash, shift);
+            }
+            if (contains(x, hash, shift)) {
+                return this;
+            }
+            var result = new Object[items.length + 1];
+            System.arraycopy(items, 0, result, 0, items.length);
+            result[items.length] = x;
+            return new CollisionNode(hash, result);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.github.nylle.javaseq;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+class RangeSeq extends ASeq<Integer> implements IChunkedSeq<Integer>, ICounted {
+
+    private static final int CHUNK_SIZE = 32;
+
+    private final int start;
+    private final int step;
+    private final long count;
+
+    RangeSeq(int start, int step, long count) {
+        if (step == 0) {
+            throw new IllegalArgumentException("step must not be 0");
+        }
+        if (count < 1) {
+            throw new IllegalArgumentException("count " + count + " must be greater than 0");
+        }
+        this.start = start;
+        this.step = step;
+        this.count = count;
+    }
+
+    private int valueAt(long i) {
+        return (int) (start + i * step);
+    }
+
+    @Override
+    public IChunk<Integer> chunkedFirst() {
+        var acc = new int[(int) Math.min(CHUNK_SIZE, count)];
+        for (int i = 0; i < acc.length; i++) {
+            acc[i] = valueAt(i);
+        }
+        return new IntChunk(acc);
+    }
+
+    @Override
+    public ISeq<Integer> chunkedMore() {
+        return drop(CHUNK_SIZE);
+    }
+
+    private ChunkedCons<Integer> chunked() {
+        return new ChunkedCons<>(chunkedFirst(), chunkedMore());
+    }
+
+    @Override
+    public Integer first() {
+        return start;
+    }
+
+    @Override
+    public ISeq<Integer> rest() {
+        if (count > 1) {
+            return new RangeSeq(valueAt(1), step, count - 1);
+        }
+        return ISeq.of();
+    }
+
+    @Override
+    public boolean isRealized() {
+        return true;
+    }
+
+    @Override
+    public ISeq<Integer> take(long n) {
+        if (n >= count) {
+            return this;
+        }
+        if (n > 0) {
+            return new RangeSeq(start, step, n);
+        }
+        return ISeq.of();
+    }
+
+    @Override
+    public ISeq<Integer> drop(long n) {
+        if (n >= count) {
+            return ISeq.of();
+        }
+        if (n > 0) {
+            return new RangeSeq(valueAt(n), step, count - n);
+        }
+        return this;
+    }
+
+    @Override
+    public ISeq<Integer> filter(Predicate<? super Integer> pred) {
+        return chunked().filter(pred);
+    }
+
+    @Override
+    public <R> ISeq<R> map(Function<? super Integer, ? extends R> f) {
+        return chunked().map(f);
+    }
+
+    @Override
+    public <R> ISeq<R> keep(Function<? super Integer, ? extends R> f) {
+        return chunked().keep(f);
+    }
+
+    @Override
+    public ISeq<ISeq<Integer>> partition(int n, int step, Iterable<Integer> pad) {
+        return slices(n, step, pad);
+    }
+
+    @Override
+    public ISeq<Integer> takeWhile(Predicate<? super Integer> pred) {
+        return chunked().takeWhile(pred);
+    }
+
+    @Override
+    public ISeq<Integer> dropWhile(Predicate<? super Integer> pred) {
+        var i = 0L;
+        while (i < count && pred.test(valueAt(i))) {
+            i++;
+        }
+        return drop(i);
+    }
+
+    @Override
+    public <U> U reduce(U val, BiFunction<U, ? super Integer, U> f) {
+        var result = val;
+        for (long i = 0; i < count; i++) {
+            result = f.apply(result, valueAt(i));
+        }
+        return result;
+    }
+
+    @Override
+    public <U> U fold(int n, Supplier<U> init, BinaryOperator<U> combine, BiFunction<U, ? super Integer, U> reduce) {
+        return Util.fold(this, n, init, combine, reduce);
+    }
+
+    @Override
+    public boolean some(Predicate<? super Integer> pred) {
+        for (long i = 0; i < count; i++) {
+            if (pred.test(valueAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean every(Predicate<? super Integer> pred) {
+        for (long i = 0; i < count; i++) {
+            if (!pred.test(valueAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public IntSeq mapToInt(ToIntFunction<? super Integer> f) {
+        var acc = new int[count()];
+        for (int i = 0; i < acc.length; i++) {
+            acc[i] = f.applyAsInt(valueAt(i));
+        }
+        return new IntSeq(new IntChunk(acc));
+    }
+
+    @Override
+    protected Integer nth(int index, Supplier<Integer> notFound) {
+        if (index < 0 || index >= count) {
+            return notFound.get();
+        }
+        return valueAt(index);
+    }
+
+    @Override
+    public int count() {
+        return (int) Math.min(count, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        if (count > Integer.MAX_VALUE) {
+            return super.iterator(); // indices beyond the int range
+        }
+        return new IndexedIterator<>(this::valueAt, 0, count());
+    }
+
+    @Override
+    public Spliterator<Integer> spliterator() {
+        if (count > Integer.MAX_VALUE) {
+            return chunked().spliterator();
+        }
+        return new IndexedSpliterator<>(this::valueAt, 0, count(), Spliterator.NONNULL);
+    }
+}
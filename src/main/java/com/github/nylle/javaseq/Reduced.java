@@ -0,0 +1,23 @@
+package com.github.nylle.javaseq;
+
+/**
+ * Signals the early termination of a transduction, carrying the final accumulated value. It is thrown by stateful
+ * transducers (e.g. {@link ITransducer#take}) and caught by the transducing context, so that the reduce of any seq
+ * implementation can be used to drive a transduction, including over infinite seqs. It never reaches callers, because
+ * the reducing functions of transducers are only created and called within {@link ISeq#transduce} and
+ * {@link ISeq#sequence}.
+ */
+final class Reduced extends RuntimeException {
+
+    private final transient Object value;
+
+    Reduced(Object value) {
+        super(null, null, false, false);
+        this.value = value;
+    }
+
+    @SuppressWarnings("unchecked")
+    <A> A value() {
+        return (A) value;
+    }
+}
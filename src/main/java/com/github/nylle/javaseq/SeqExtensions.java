@@ -40,4 +40,16 @@ public class SeqExtensions {
     public static ISeq<Character> toSeq(char[] coll) {
         return ISeq.seq(coll);
     }
+
+    public static IntSeq toSeq(int[] coll) {
+        return ISeq.seq(coll);
+    }
+
+    public static LongSeq toSeq(long[] coll) {
+        return ISeq.seq(coll);
+    }
+
+    public static DoubleSeq toSeq(double[] coll) {
+        return ISeq.seq(coll);
+    }
 }
@@ -1,11 +1,18 @@
 package com.github.nylle.javaseq;
 
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.function.Consumer;
 
+/**
+ * Iterator over a seq, which walks chunked seqs a chunk at a time and only moves on to the rest of the seq when the
+ * current chunk is exhausted, so that iterating does not allocate a rest seq per item.
+ */
 public class SeqIterator<T> implements Iterator<T> {
 
 	private ISeq<T> seq;
+	private IChunk<T> chunk;
+	private int index;
 
 	public SeqIterator(ISeq<T> seq) {
 		this.seq = seq;
@@ -13,11 +20,30 @@ public class SeqIterator<T> implements Iterator<T> {
 
 	@Override
 	public boolean hasNext() {
+		if (chunk != null) {
+			if (index < chunk.count()) {
+				return true;
+			}
+			chunk = null;
+		}
+		seq = LazySeq.unwrap(seq);
+		if (seq instanceof IChunkedSeq<T> chunkedSeq) {
+			chunk = chunkedSeq.chunkedFirst();
+			index = 0;
+			seq = chunkedSeq.chunkedMore();
+			return true;
+		}
 		return !seq.isEmpty();
 	}
 
 	@Override
 	public T next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		if (chunk != null) {
+			return chunk.nth(index++);
+		}
 		var next = seq.first();
 		seq = seq.rest();
 		return next;
@@ -30,6 +56,13 @@ public class SeqIterator<T> implements Iterator<T> {
 
 	@Override
 	public void forEachRemaining(Consumer<? super T> action) {
+		if (chunk != null) {
+			for (; index < chunk.count(); index++) {
+				action.accept(chunk.nth(index));
+			}
+			chunk = null;
+		}
 		seq.run(action);
+		seq = ISeq.of();
 	}
 }
@@ -0,0 +1,83 @@
+package com.github.nylle.javaseq;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over a seq of chunks, which realizes the seq only as it is traversed or split and splits off one chunk at
+ * a time. As soon as the remaining seq is neither lazy nor chunked, traversal, splitting and size estimates are
+ * delegated to the spliterator of the remaining seq. Until then, the size is unknown, so that building a stream does not realize the seq. The
+ * characteristics are always ORDERED and IMMUTABLE, as they must not change once traversal has started.
+ */
+class SeqSpliterator<T> implements Spliterator<T> {
+
+    private ISeq<T> seq;
+    private Spliterator<T> delegate;
+
+    SeqSpliterator(ISeq<T> seq) {
+        this.seq = seq;
+    }
+
+    private ChunkedCons<T> head() {
+        if (delegate != null) {
+            return null;
+        }
+        var s = LazySeq.unwrap(seq);
+        if (s instanceof ChunkedCons<T> chunkedCons) {
+            seq = chunkedCons;
+            return chunkedCons;
+        }
+        delegate = s.spliterator();
+        seq = null;
+        return null;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        var head = head();
+        if (head == null) {
+            return delegate.tryAdvance(action);
+        }
+        action.accept(head.first());
+        seq = head.rest();
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        var head = head();
+        while (head != null) {
+            var chunk = head.chunkedFirst();
+            for (int i = 0; i < chunk.count(); i++) {
+                action.accept(chunk.nth(i));
+            }
+            seq = head.chunkedMore();
+            head = head();
+        }
+        delegate.forEachRemaining(action);
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        var head = head();
+        if (head == null) {
+            return delegate.trySplit();
+        }
+        var chunk = head.chunkedFirst();
+        seq = head.chunkedMore();
+        return new IndexedSpliterator<>(chunk::nth, 0, chunk.count(), 0);
+    }
+
+    @Override
+    public long estimateSize() {
+        if (delegate != null) {
+            return delegate.estimateSize();
+        }
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | IMMUTABLE;
+    }
+}
@@ -30,6 +30,24 @@ public class StringChunk implements IChunk<Character> {
         return new StringChunk(str, offset, end - n);
     }
 
+    @Override
+    public IChunk<Character> drop(int n) {
+        return new StringChunk(str, offset + n, end);
+    }
+
+    @Override
+    public IChunk<Character> slice(int from, int to) {
+        return new StringChunk(str, offset + from, offset + to);
+    }
+
+    StringBuilder appendTo(StringBuilder sb) {
+        return sb.append(str, offset, end);
+    }
+
+    CharSink writeTo(CharSink sink) {
+        return sink.append(str, offset, end);
+    }
+
     @Override
     public int count() {
         return end - offset;
@@ -1,12 +1,18 @@
 package com.github.nylle.javaseq;
 
-import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
 import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
-public class StringSeq extends ASeq<Character> implements ISeq<Character> {
+public class StringSeq extends ASeq<Character> implements IChunkedSeq<Character>, ICounted {
+
+    private static final int CHUNK_SIZE = 32;
 
     private final CharSequence str;
     private final int index;
@@ -45,6 +51,20 @@ public class StringSeq extends ASeq<Character> implements ISeq<Character> {
         return ISeq.of();
     }
 
+    @Override
+    public IChunk<Character> chunkedFirst() {
+        return new StringChunk(str, index, Math.min(end, index + CHUNK_SIZE));
+    }
+
+    @Override
+    public ISeq<Character> chunkedMore() {
+        return drop(CHUNK_SIZE);
+    }
+
+    private ChunkedCons<Character> chunked() {
+        return new ChunkedCons<>(chunkedFirst(), chunkedMore());
+    }
+
     @Override
     public boolean isRealized() {
         return true;
@@ -72,6 +92,26 @@ public class StringSeq extends ASeq<Character> implements ISeq<Character> {
         return this;
     }
 
+    @Override
+    public ISeq<Character> filter(Predicate<? super Character> pred) {
+        return chunked().filter(pred);
+    }
+
+    @Override
+    public <R> ISeq<R> map(Function<? super Character, ? extends R> f) {
+        return chunked().map(f);
+    }
+
+    @Override
+    public <R> ISeq<R> keep(Function<? super Character, ? extends R> f) {
+        return chunked().keep(f);
+    }
+
+    @Override
+    public ISeq<ISeq<Character>> partition(int n, int step, Iterable<Character> pad) {
+        return slices(n, step, pad);
+    }
+
     @Override
     public ISeq<Character> takeWhile(Predicate<? super Character> pred) {
         var newEnd = index;
@@ -114,6 +154,11 @@ public class StringSeq extends ASeq<Character> implements ISeq<Character> {
         return result;
     }
 
+    @Override
+    public <U> U fold(int n, Supplier<U> init, BinaryOperator<U> combine, BiFunction<U, ? super Character, U> reduce) {
+        return Util.fold(this, n, init, combine, reduce);
+    }
+
     @Override
     public boolean some(Predicate<? super Character> pred) {
         for (int i = index; i < end; i++) {
@@ -147,17 +192,78 @@ public class StringSeq extends ASeq<Character> implements ISeq<Character> {
         return count;
     }
 
+    @Override
+    public Iterator<Character> iterator() {
+        return new IndexedIterator<>(str::charAt, index, end);
+    }
+
+    @Override
+    public Spliterator<Character> spliterator() {
+        return new IndexedSpliterator<>(str::charAt, index, end, Spliterator.NONNULL);
+    }
+
+    @Override
+    long estimateLength(CharSequence separator) {
+        return count + (count - 1L) * separator.length();
+    }
+
+    @Override
+    StringBuilder appendTo(StringBuilder sb, CharSequence separator) {
+        if (separator.isEmpty()) {
+            return sb.append(str, index, end);
+        }
+        sb.append(str.charAt(index));
+        for (int i = index + 1; i < end; i++) {
+            sb.append(separator).append(str.charAt(i));
+        }
+        return sb;
+    }
+
+    @Override
+    CharSink writeTo(CharSink sink) {
+        return sink.append(str, index, end);
+    }
+
     @Override
     public ISeq<Character> reverse() {
         return new StringSeq(new StringBuilder(str.subSequence(index, end)).reverse().toString(), 0, end);
     }
 
     @Override
-    public List<Character> reify() {
-        var acc = new ArrayList<Character>();
-        for (int i = index; i < end; i++) {
-            acc.add(str.charAt(i));
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (o instanceof Character c) {
+            for (int i = index; i < end; i++) {
+                if (str.charAt(i) == c) {
+                    return i - index;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        if (o instanceof Character c) {
+            for (int i = end - 1; i >= index; i--) {
+                if (str.charAt(i) == c) {
+                    return i - index;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public List<Character> subList(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, count);
+        if (fromIndex == toIndex) {
+            return ISeq.of();
         }
-        return List.copyOf(acc);
+        return new StringSeq(str, index + fromIndex, index + toIndex);
     }
 }
@@ -3,14 +3,25 @@ package com.github.nylle.javaseq;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.RandomAccess;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
 import java.util.function.Supplier;
 
 public class Util {
@@ -39,7 +50,45 @@ public class Util {
         return new StringSeq(coll, 0, coll.length());
     }
 
-    private static final int CHUNK_SIZE = 32;
+    public static ISeq<Integer> rangeSeq(int start, int end, int step) {
+        var span = (long) end - start;
+        if (step != 0 && span != 0 && (span > 0) == (step > 0)) {
+            return new RangeSeq(start, step, span / step + (span % step != 0 ? 1 : 0));
+        }
+        return nil();
+    }
+
+    public static IntSeq intSeq(int[] array) {
+        if (array != null && array.length > 0) return new IntSeq(new IntChunk(array));
+        return IntSeq.empty();
+    }
+
+    public static LongSeq longSeq(long[] array) {
+        if (array != null && array.length > 0) return new LongSeq(new LongChunk(array));
+        return LongSeq.empty();
+    }
+
+    public static DoubleSeq doubleSeq(double[] array) {
+        if (array != null && array.length > 0) return new DoubleSeq(new DoubleChunk(array));
+        return DoubleSeq.empty();
+    }
+
+    public static IntSeq intSeq(IntBuffer buffer) {
+        if (buffer.hasRemaining()) return new IntSeq(new IntBufferChunk(buffer));
+        return IntSeq.empty();
+    }
+
+    public static LongSeq longSeq(LongBuffer buffer) {
+        if (buffer.hasRemaining()) return new LongSeq(new LongBufferChunk(buffer));
+        return LongSeq.empty();
+    }
+
+    public static DoubleSeq doubleSeq(DoubleBuffer buffer) {
+        if (buffer.hasRemaining()) return new DoubleSeq(new DoubleBufferChunk(buffer));
+        return DoubleSeq.empty();
+    }
+
+    static final int CHUNK_SIZE = 32;
     public static <T> ISeq<T> chunkIteratorSeq(final Iterator<T> iterator) {
         if (iterator.hasNext()) {
             return lazySeq(() -> {
@@ -54,24 +103,92 @@ public class Util {
         return nil();
     }
 
-    private static final int BUFFER_SIZE = 8192;
-    public static ISeq<Character> chunkInputStreamSeq(FileInputStream in, Charset charset) {
-        try {
-            if (in.available() > 0) {
-                return lazySeq(() -> {
-                    try {
-                        byte[] bytes = new byte[BUFFER_SIZE];
-                        int end = in.read(bytes);
-                        return new ChunkedCons<>(new StringChunk(new String(bytes, charset), 0, end), chunkInputStreamSeq(in, charset));
-                    } catch (IOException ex) {
-                        throw new IllegalStateException("unexpected IO error", ex);
+    public static <T, R> ISeq<R> sequence(ITransducer<T, R> xform, ISeq<T> seq) {
+        return sequence(ATransducer.<T, R, ArrayList<R>>apply(xform, (acc, x) -> {
+            acc.add(x);
+            return acc;
+        }), seq);
+    }
+
+    private static <T, R> ISeq<R> sequence(BiFunction<ArrayList<R>, T, ArrayList<R>> rf, ISeq<T> seq) {
+        var failure = new AtomicReference<RuntimeException>();
+        return lazySeq(() -> {
+            if (failure.get() != null) {
+                throw failure.get(); // rf has already seen some items of this chunk, so they cannot be passed on again
+            }
+            var acc = new ArrayList<R>();
+            var s = LazySeq.unwrap(seq);
+            try {
+                while (acc.isEmpty() && !s.isEmpty()) {
+                    if (s instanceof IChunkedSeq<T> chunkedSeq) {
+                        var chunk = chunkedSeq.chunkedFirst();
+                        s = LazySeq.unwrap(chunkedSeq.chunkedMore());
+                        for (int i = 0; i < chunk.count(); i++) {
+                            rf.apply(acc, chunk.nth(i));
+                        }
+                    } else {
+                        for (int i = 0; i < CHUNK_SIZE && !s.isEmpty(); i++) {
+                            var x = s.first();
+                            s = LazySeq.unwrap(s.rest());
+                            rf.apply(acc, x);
+                        }
                     }
-                });
+                }
+            } catch (Reduced ex) {
+                s = nil();
+            } catch (RuntimeException ex) {
+                failure.set(ex);
+                throw ex;
             }
-        } catch (IOException ex) {
-            throw new IllegalStateException("unexpected IO error", ex);
+            if (acc.isEmpty()) {
+                return nil();
+            }
+            return new ChunkedCons<>(new ArrayChunk<>((R[]) acc.toArray()), sequence(rf, s));
+        });
+    }
+
+    public static <T, U> U fold(ISeq<T> seq, int n, Supplier<U> init, BinaryOperator<U> combine, BiFunction<U, ? super T, U> reduce) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be greater than 0");
         }
-        return nil();
+        var count = seq.count();
+        if (count <= n) {
+            return seq.reduce(init.get(), reduce);
+        }
+        return ForkJoinPool.commonPool().invoke(new FoldTask<>(seq, count, n, init, combine, reduce));
+    }
+
+    static final int BUFFER_SIZE = 8192;
+    public static ISeq<Character> chunkInputStreamSeq(FileInputStream in, Charset charset) {
+        return channelSeq(in.getChannel(), charset, BUFFER_SIZE);
+    }
+
+    public static ISeq<Character> channelSeq(ReadableByteChannel channel, Charset charset, int chunkSize) {
+        return new ChannelDecoder(channel, charset, chunkSize).seq();
+    }
+
+    public static ISeq<String> readerLineSeq(Reader reader, int chunkSize) {
+        return LineSplitter.strings(LineSplitter.buffers(reader, BUFFER_SIZE), chunkSize).seq();
+    }
+
+    public static ISeq<CharSequence> readerLineViewSeq(Reader reader, int chunkSize) {
+        return LineSplitter.views(LineSplitter.buffers(reader, BUFFER_SIZE), chunkSize).seq();
+    }
+
+    public static ISeq<String> channelLineSeq(ReadableByteChannel channel, Charset charset, int chunkSize) {
+        return LineSplitter.strings(new ChannelDecoder(channel, charset, BUFFER_SIZE)::decode, chunkSize).seq();
+    }
+
+    public static ISeq<CharSequence> channelLineViewSeq(ReadableByteChannel channel, Charset charset, int chunkSize) {
+        return LineSplitter.views(new ChannelDecoder(channel, charset, BUFFER_SIZE)::decode, chunkSize).seq();
+    }
+
+    public static ISeq<Byte> mappedByteSeq(FileChannel channel, int chunkSize) {
+        return new MappedFile(channel, chunkSize).bytes();
+    }
+
+    public static ISeq<Character> mappedCharSeq(FileChannel channel, Charset charset, int chunkSize) {
+        return new MappedFile(channel, chunkSize).chars(charset);
     }
 
     public static <T> ISeq<T> concat(Iterator<? extends T> iterator, ISeq<T> seq) {
@@ -83,6 +200,55 @@ public class Util {
         });
     }
 
+    /**
+     * Returns a lazy seq of the items in {@code coll} followed by the items in {@code more}. Chunks of a chunked seq are
+     * passed on unchanged and random access lists are copied into an array that is passed on in chunks, so that only
+     * other collections are concatenated item by item.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> ISeq<T> chunkedConcat(Iterable<? extends T> coll, ISeq<T> more) {
+        if (coll instanceof ISeq<?> seq) {
+            return lazySeq(() -> {
+                var s = LazySeq.unwrap((ISeq<T>) seq);
+                if (s.isEmpty()) {
+                    return more;
+                }
+                if (s instanceof IChunkedSeq<T> chunkedSeq) {
+                    return new ChunkedCons<>(chunkedSeq.chunkedFirst(), chunkedConcat(chunkedSeq.chunkedMore(), more));
+                }
+                return cons(s.first(), chunkedConcat(s.rest(), more));
+            });
+        }
+        if (coll instanceof List<?> list && list instanceof RandomAccess) {
+            return lazySeq(() -> {
+                var array = (T[]) list.toArray();
+                if (array.length == 0) {
+                    return more;
+                }
+                return chunkedConcat(new ArraySeq<>(array), more);
+            });
+        }
+        return concat(coll.iterator(), more);
+    }
+
+    @SafeVarargs
+    public static <T> ISeq<T> concat(Iterable<T>... colls) {
+        var count = 0L;
+        for (var coll : colls) {
+            if (!(coll instanceof ICounted)) {
+                return ISeq.seq(colls).mapcat(x -> x);
+            }
+            count += ((ISeq<T>) coll).count();
+        }
+        if (count == 0) {
+            return nil();
+        }
+        if (count > Integer.MAX_VALUE) {
+            return ISeq.seq(colls).mapcat(x -> x);
+        }
+        return new CountedLazySeq<>(() -> ISeq.seq(colls).mapcat(x -> x), (int) count);
+    }
+
     @SafeVarargs
     public static <T> Set<T> conj(Set<T> coll, T... xs) {
         var result = new HashSet<>(coll);
@@ -97,10 +263,15 @@ public class Util {
         return List.copyOf(result);
     }
 
+    /**
+     * @deprecated encodes and writes each character on its own, use {@link ISeq#writeTo(OutputStream, Charset)}
+     */
+    @Deprecated
     public static BiFunction<Integer, Character, Integer> toOutputStream(FileOutputStream outputStream, Charset charset) {
         return (a, b) -> {
             try {
-                outputStream.write(charset.encode(b.toString()).array());
+                var bytes = charset.encode(b.toString());
+                outputStream.write(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
                 return a + 1;
             } catch (IOException ex) {
                 throw new IllegalStateException("unexpected IO error", ex);
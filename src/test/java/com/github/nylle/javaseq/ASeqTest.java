@@ -5,15 +5,27 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
@@ -52,6 +64,19 @@ class ASeqTest {
         }
     }
 
+    static ISeq<Integer> countingSeq(int from, int to, AtomicInteger reads) {
+        if (from >= to) {
+            return ISeq.of();
+        }
+        return new TestSeq<>(from, countingSeq(from + 1, to, reads)) {
+            @Override
+            public Integer first() {
+                reads.incrementAndGet();
+                return super.first();
+            }
+        };
+    }
+
     @Nested
     class Second {
 
@@ -139,6 +164,31 @@ class ASeqTest {
         }
     }
 
+    @Nested
+    class Keep {
+
+        @Test
+        void returnsNilWhenAllResultsAreNull() {
+            var sut = TestSeq.from(0, 1, 2, 3);
+
+            assertThat(sut.keep(x -> null)).isEmpty();
+        }
+
+        @Test
+        void returnsNonNullResults() {
+            var sut = TestSeq.from(0, 1, 2, 3);
+
+            assertThat(sut.keep(x -> x % 2 == 0 ? "" + x : null)).containsExactly("0", "2");
+        }
+
+        @Test
+        void isLazy() {
+            var sut = ISeq.iterate(0, x -> x + 1);
+
+            assertThat(sut.keep(x -> x % 2 == 0 ? null : x).take(3)).containsExactly(1, 3, 5);
+        }
+    }
+
     @Nested
     class Map {
 
@@ -265,6 +315,35 @@ class ASeqTest {
             assertThat(sut.mapcat(x -> ISeq.iterate("Y", y -> y + "Y")).take(4)).containsExactly("Y", "YY", "YYY", "YYYY");
         }
 
+        @Test
+        void passesOnChunksOfChunkedResults() {
+            var sut = TestSeq.from(0, 1);
+
+            var actual = LazySeq.unwrap(sut.mapcat(x -> ISeq.range(x * 100, x * 100 + 40)));
+
+            assertThat(actual).isExactlyInstanceOf(ChunkedCons.class);
+            assertThat(((ChunkedCons<Integer>) actual).chunkedFirst().count()).isEqualTo(32);
+            assertThat(actual).hasSize(80).startsWith(0, 1).endsWith(138, 139);
+        }
+
+        @Test
+        void returnsChunksForRandomAccessLists() {
+            var sut = TestSeq.from(0, 1, 2);
+
+            var actual = LazySeq.unwrap(sut.mapcat(x -> List.of(x, x)));
+
+            assertThat(actual).isExactlyInstanceOf(ChunkedCons.class);
+            assertThat(((ChunkedCons<Integer>) actual).chunkedFirst().count()).isEqualTo(2);
+            assertThat(actual).containsExactly(0, 0, 1, 1, 2, 2);
+        }
+
+        @Test
+        void doesNotOverflowStackForLongRunOfEmptyResults() {
+            var sut = ISeq.range(0, 1000000);
+
+            assertThat(sut.mapcat(x -> x < 999999 ? List.<Integer>of() : List.of(x))).containsExactly(999999);
+        }
+
         @Nested
         class WithOtherColl {
 
@@ -303,6 +382,44 @@ class ASeqTest {
         }
     }
 
+    @Nested
+    class MapToPrimitive {
+
+        @Test
+        void returnsIntSeqOfMappedItems() {
+            var sut = TestSeq.from("a", "bb", "ccc");
+
+            assertThat(sut.mapToInt(x -> x.length()))
+                    .isExactlyInstanceOf(IntSeq.class)
+                    .containsExactly(1, 2, 3);
+        }
+
+        @Test
+        void returnsLongSeqOfMappedItems() {
+            var sut = TestSeq.from("a", "bb", "ccc");
+
+            assertThat(sut.mapToLong(x -> x.length() * 10L))
+                    .isExactlyInstanceOf(LongSeq.class)
+                    .containsExactly(10L, 20L, 30L);
+        }
+
+        @Test
+        void returnsDoubleSeqOfMappedItems() {
+            var sut = TestSeq.from("a", "bb", "ccc");
+
+            assertThat(sut.mapToDouble(x -> x.length() / 2.0))
+                    .isExactlyInstanceOf(DoubleSeq.class)
+                    .containsExactly(0.5, 1.0, 1.5);
+        }
+
+        @Test
+        void returnsAllItemsOfLargeSeq() {
+            var sut = ISeq.iterate(0, x -> x + 1).take(1000);
+
+            assertThat(sut.mapToInt(x -> x).sum()).isEqualTo(499500L);
+        }
+    }
+
     @Nested
     class TakeWhile {
 
@@ -461,6 +578,32 @@ class ASeqTest {
                     ISeq.of(4, 5, 6));
         }
 
+        @Test
+        void returnsPartitionsBackedByArrays() {
+            var sut = TestSeq.from(0, 1, 2, 3, 4, 5, 6);
+
+            assertThat(sut.partition(3, 2)).allSatisfy(x -> assertThat(x).isExactlyInstanceOf(ArraySeq.class));
+        }
+
+        @Test
+        void readsEachItemOnce() {
+            var reads = new AtomicInteger();
+            var sut = countingSeq(0, 10, reads);
+
+            assertThat(sut.partition(4, 1).mapcat(x -> x).reify()).hasSize(28);
+            assertThat(reads).hasValue(10);
+        }
+
+        @Test
+        void returnsSlidingWindowsOverInfiniteSeq() {
+            var sut = ISeq.iterate(0, x -> x + 1);
+
+            assertThat(sut.partition(3, 1).take(3)).containsExactly(
+                    ISeq.of(0, 1, 2),
+                    ISeq.of(1, 2, 3),
+                    ISeq.of(2, 3, 4));
+        }
+
         @Nested
         class WhenPadIsProvidedAndNotNull {
 
@@ -601,6 +744,13 @@ class ASeqTest {
                     ISeq.of(4, 5, 6));
         }
 
+        @Test
+        void doesNotAllocateNItemsForFewerItems() {
+            var sut = TestSeq.from(0, 1, 2);
+
+            assertThat(sut.partitionAll(Integer.MAX_VALUE)).containsExactly(ISeq.of(0, 1, 2));
+        }
+
         @Test
         void returnsAnIncompleteLastPartition() {
             var sut = TestSeq.from(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13);
@@ -712,6 +862,134 @@ class ASeqTest {
         verifyNoMoreInteractions(proc);
     }
 
+    @Nested
+    class Fold {
+
+        @Test
+        void returnsResultOfSequentialReduction() {
+            var sut = TestSeq.from(1, 2, 3, 4);
+
+            assertThat(sut.fold(1, () -> "", String::concat, (acc, x) -> acc + x)).isEqualTo("1234");
+            assertThat(sut.fold(() -> 0, Integer::sum, Integer::sum)).isEqualTo(10);
+        }
+
+        @Test
+        void throwsWhenPartitionSizeIsLessThanOne() {
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> TestSeq.from(1, 2).fold(0, () -> 0, Integer::sum, Integer::sum))
+                    .withMessage("n must be greater than 0");
+        }
+    }
+
+    @Nested
+    class Transduce {
+
+        @Test
+        void returnsResultOfReducingTransformedItems() {
+            var sut = TestSeq.from(1, 2, 3, 4, 5);
+
+            var actual = sut.transduce(ITransducer.<Integer>of().map(x -> x * 2).filter(x -> x > 4), 0, Integer::sum);
+
+            assertThat(actual).isEqualTo(24);
+        }
+
+        @Test
+        void returnsInitIfSeqIsEmpty() {
+            assertThat(ISeq.<Integer>of().transduce(ITransducer.<Integer>of().map(x -> x * 2), 1, Integer::sum)).isEqualTo(1);
+        }
+
+        @Test
+        void terminatesEarlyOnInfiniteSeq() {
+            var sut = ISeq.iterate(1, x -> x + 1);
+
+            var actual = sut.transduce(ITransducer.<Integer>of().filter(x -> x % 2 == 0).take(3), 0, Integer::sum);
+
+            assertThat(actual).isEqualTo(12);
+        }
+
+        @Test
+        void usesChunkedReduce() {
+            var sut = ISeq.seq(List.of(1, 2, 3).iterator());
+
+            assertThat(sut.transduce(ITransducer.<Integer>of().takeWhile(x -> x < 3), 0, Integer::sum)).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    class Sequence {
+
+        @Test
+        void returnsLazySeqOfTransformedItems() {
+            var sut = TestSeq.from(1, 2, 3, 4, 5);
+
+            var actual = sut.sequence(ITransducer.<Integer>of().map(x -> x * 2).filter(x -> x > 4));
+
+            assertThat(actual)
+                    .isExactlyInstanceOf(LazySeq.class)
+                    .containsExactly(6, 8, 10);
+        }
+
+        @Test
+        void returnsEmptySeqIfNoItemsArePassedOn() {
+            assertThat(TestSeq.from(1, 2, 3).sequence(ITransducer.<Integer>of().filter(x -> x > 3))).isEmpty();
+            assertThat(ISeq.<Integer>of().sequence(ITransducer.of())).isEmpty();
+        }
+
+        @Test
+        void returnsChunksOfTransformedItems() {
+            var actual = ISeq.range(100).sequence(ITransducer.<Integer>of().map(x -> x + 1));
+
+            assertThat(actual.rest()).isExactlyInstanceOf(ChunkedCons.class);
+            assertThat(actual.count()).isEqualTo(100);
+            assertThat(actual.nth(99)).isEqualTo(100);
+        }
+
+        @Test
+        void isLazyAndTerminatesEarlyOnInfiniteSeq() {
+            var actual = ISeq.iterate(1, x -> x + 1).sequence(ITransducer.<Integer>of().mapcat(x -> List.of(x, -x)).take(5));
+
+            assertThat(actual).containsExactly(1, -1, 2, -2, 3);
+        }
+
+        @Test
+        void rethrowsFailureOfChunkOnRetryInsteadOfPassingOnItemsAgain() {
+            var failed = new AtomicInteger();
+            var xform = ITransducer.<Integer>of().take(5).map(x -> {
+                if (x == 3 && failed.getAndIncrement() == 0) {
+                    throw new IllegalStateException("failed once");
+                }
+                return x;
+            });
+
+            var actual = ISeq.range(10).sequence(xform);
+
+            var failure = catchThrowable(actual::first);
+            assertThat(failure).hasMessage("failed once");
+            assertThat(catchThrowable(actual::first)).isSameAs(failure);
+        }
+
+        @Test
+        void keepsStateOfTransducerAcrossChunks() {
+            var actual = ISeq.range(1000).sequence(ITransducer.<Integer>of().drop(40).take(50));
+
+            assertThat(actual).isEqualTo(ISeq.range(40, 90));
+        }
+
+        @Test
+        void realizesEachItemOfUnchunkedSeqOnce() {
+            var realized = new AtomicInteger();
+            var sut = ISeq.iterate(0, x -> {
+                realized.incrementAndGet();
+                return x + 1;
+            });
+
+            var actual = sut.sequence(ITransducer.<Integer>of().filter(x -> x % 2 == 0)).take(40);
+
+            assertThat(actual.count()).isEqualTo(40);
+            assertThat(realized.get()).isLessThan(2 * 64);
+        }
+    }
+
     @Nested
     class Distinct {
 
@@ -740,6 +1018,38 @@ class ASeqTest {
 
             assertThat(sut.distinct()).containsExactly("a", "c", "b", "d", "f", "e", "g");
         }
+
+        @Test
+        void returnsItemsThatAreNull() {
+            var sut = TestSeq.from("a", null, "a", null, "b");
+
+            assertThat(sut.distinct()).containsExactly("a", null, "b");
+        }
+
+        @Test
+        void returnsLazySeqForInfiniteSeq() {
+            var sut = ISeq.iterate(0, x -> x + 1).map(x -> x / 3);
+
+            assertThat(sut.distinct().take(4)).containsExactly(0, 1, 2, 3);
+        }
+    }
+
+    @Nested
+    class DistinctBy {
+
+        @Test
+        void returnsFirstItemForEachDistinctKeyInOrder() {
+            var sut = TestSeq.from("apple", "avocado", "banana", "cherry", "blueberry", "apricot");
+
+            assertThat(sut.distinctBy(x -> x.charAt(0))).containsExactly("apple", "banana", "cherry");
+        }
+
+        @Test
+        void returnsAllItemsIfKeysAreDistinct() {
+            var sut = TestSeq.from(1, 2, 3);
+
+            assertThat(sut.distinctBy(x -> x * 2)).containsExactly(1, 2, 3);
+        }
     }
 
     @Nested
@@ -765,6 +1075,81 @@ class ASeqTest {
         }
     }
 
+    @Nested
+    class SortedExternal {
+
+        private final ISerializer<Integer> ints = ISerializer.of(DataOutput::writeInt, DataInput::readInt);
+
+        @Test
+        void returnsEmptySeqForEmptySeq() {
+            assertThat(ISeq.<Integer>of().sortedExternal(Comparator.naturalOrder(), ints, 10)).isEmpty();
+        }
+
+        @Test
+        void sortsInMemoryWithoutSerializingIfAllItemsFit() {
+            var writes = new AtomicInteger();
+            var serializer = ISerializer.<Integer>of((out, x) -> writes.incrementAndGet(), in -> 0);
+
+            var actual = TestSeq.from(10, 9, 7, 8).sortedExternal(Comparator.naturalOrder(), serializer, 4);
+
+            assertThat(actual).containsExactly(7, 8, 9, 10);
+            assertThat(writes).hasValue(0);
+        }
+
+        @Test
+        void mergesRunsSortedUsingSuppliedComparator() {
+            var sut = ISeq.iterate(7, x -> (x * 31 + 11) % 1009).take(1000);
+
+            var actual = sut.sortedExternal(Comparator.reverseOrder(), ints, 7);
+
+            assertThat(actual).containsExactlyElementsOf(sut.sorted(Comparator.reverseOrder()));
+        }
+
+        @Test
+        void keepsOrderOfEqualItems() {
+            var serializer = ISerializer.<String>of(DataOutput::writeUTF, DataInput::readUTF);
+            var sut = ISeq.of("b1", "a1", "b2", "a2", "b3", "a3", "c1", "a4");
+
+            var actual = sut.sortedExternal(Comparator.comparing(x -> x.charAt(0)), serializer, 3);
+
+            assertThat(actual).containsExactly("a1", "a2", "a3", "a4", "b1", "b2", "b3", "c1");
+        }
+
+        @Test
+        void isLazy() {
+            var realized = new AtomicInteger();
+            var sut = ISeq.range(10).map(x -> {
+                realized.incrementAndGet();
+                return 9 - x;
+            });
+
+            var actual = sut.sortedExternal(Comparator.naturalOrder(), ints, 3);
+
+            assertThat(realized).hasValue(0);
+            assertThat(actual.take(3)).containsExactly(0, 1, 2);
+        }
+
+        @Test
+        void rethrowsFailureOfSortOnRetry() {
+            var serializer = ISerializer.<Integer>of((out, x) -> {
+                throw new IOException("disk full");
+            }, DataInput::readInt);
+
+            var actual = ISeq.range(10).sortedExternal(Comparator.naturalOrder(), serializer, 3);
+
+            var failure = catchThrowable(actual::first);
+            assertThat(failure).isInstanceOf(IllegalStateException.class).hasRootCauseMessage("disk full");
+            assertThat(catchThrowable(actual::first)).isSameAs(failure);
+        }
+
+        @Test
+        void throwsIfMaxInMemoryIsLessThanOne() {
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> TestSeq.from(1).sortedExternal(Comparator.naturalOrder(), ints, 0))
+                    .withMessage("maxInMemory must be greater than 0");
+        }
+    }
+
     @Test
     void reverseReturnsReversedSeq() {
         var sut = TestSeq.from(10, 9, 7, 8);
@@ -809,6 +1194,14 @@ class ASeqTest {
 
             assertThat(sut.some(x -> x == 3)).isTrue();
         }
+
+        @Test
+        void doesNotOverflowStackForVeryLongSeq() {
+            var sut = ISeq.iterate(0, x -> x + 1).take(1000000);
+
+            assertThat(sut.some(x -> x == 999999)).isTrue();
+            assertThat(sut.some(x -> x < 0)).isFalse();
+        }
     }
 
     @Nested
@@ -841,6 +1234,14 @@ class ASeqTest {
 
             assertThat(sut.every(x -> x < 4)).isFalse();
         }
+
+        @Test
+        void doesNotOverflowStackForVeryLongSeq() {
+            var sut = ISeq.iterate(0, x -> x + 1).take(1000000);
+
+            assertThat(sut.every(x -> x >= 0)).isTrue();
+            assertThat(sut.every(x -> x < 999999)).isFalse();
+        }
     }
 
     @Nested
@@ -1042,6 +1443,21 @@ class ASeqTest {
     @Nested
     class Concat {
 
+        @Test
+        void keepsChunksOfConcatenatedChunkedSeqs() {
+            var first = new ChunkedCons<>(new ArrayChunk<>(new Integer[]{0, 1, 2}), ISeq.of());
+            var second = new ChunkedCons<>(new ArrayChunk<>(new Integer[]{3, 4}), ISeq.of());
+
+            var actual = LazySeq.unwrap(ISeq.concat(first, second, ISeq.of(5)));
+
+            assertThat(actual).isExactlyInstanceOf(ChunkedCons.class);
+            assertThat(((ChunkedCons<Integer>) actual).chunkedFirst().count()).isEqualTo(3);
+            var more = LazySeq.unwrap(((ChunkedCons<Integer>) actual).chunkedMore());
+            assertThat(more).isExactlyInstanceOf(ChunkedCons.class);
+            assertThat(((ChunkedCons<Integer>) more).chunkedFirst().count()).isEqualTo(2);
+            assertThat(actual).containsExactly(0, 1, 2, 3, 4, 5);
+        }
+
         @Test
         void appendsItemToTheEndOfTheSeq() {
             var sut = TestSeq.from(0, 1, 2, 3, 4);
@@ -1096,6 +1512,75 @@ class ASeqTest {
                 .matches("java\\.lang\\.Object@.+java\\.lang\\.Object@.+java\\.lang\\.Object@.+");
     }
 
+    @Nested
+    class Join {
+
+        @Test
+        void returnsPrefixAndSuffixForEmptySeq() {
+            assertThat(ISeq.of().join(", ", "[", "]")).isEqualTo("[]");
+        }
+
+        @Test
+        void returnsStringRepresentationsOfAllItemsSeparatedAndEnclosed() {
+            assertThat(TestSeq.from(1, null, "a").join(", ", "[", "]")).isEqualTo("[1, null, a]");
+        }
+
+        @Test
+        void returnsSingleItemWithoutSeparator() {
+            assertThat(TestSeq.from("a").join(", ", "", "")).isEqualTo("a");
+        }
+    }
+
+    @Nested
+    class WriteTo {
+
+        @Test
+        void writesStringRepresentationsOfAllItemsToWriter() {
+            var writer = new StringWriter();
+
+            TestSeq.from(1, null, "a").writeTo(writer);
+
+            assertThat(writer.toString()).isEqualTo("1nulla");
+        }
+
+        @Test
+        void flushesBufferedOutputStream() {
+            var out = new ByteArrayOutputStream();
+
+            TestSeq.from("a", "ä").writeTo(new BufferedOutputStream(out), StandardCharsets.UTF_8);
+
+            assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("aä");
+        }
+
+        @Test
+        void writesNothingForEmptySeq() {
+            var out = new ByteArrayOutputStream();
+
+            ISeq.of().writeTo(out, StandardCharsets.UTF_8);
+
+            assertThat(out.toByteArray()).isEmpty();
+        }
+
+        @Test
+        void encodesCharactersSplitAcrossBuffers() {
+            var text = "x".repeat(8191) + "\uD83D\uDE00" + "äöü".repeat(30000);
+            var out = new ByteArrayOutputStream();
+
+            ISeq.seq(text).map(x -> x).writeTo(out, StandardCharsets.UTF_8);
+
+            assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(text);
+        }
+
+        @Test
+        void replacesUnmappableCharacters() {
+            var out = new ByteArrayOutputStream();
+
+            TestSeq.from("a", "\u20AC", "b").writeTo(Channels.newChannel(out), StandardCharsets.ISO_8859_1);
+
+            assertThat(out.toByteArray()).containsExactly('a', '?', 'b');
+        }
+    }
+
     @Nested
     class Find {
 
@@ -1158,10 +1643,19 @@ class ASeqTest {
         }
 
         @Test
-        void throwsForNullValue() {
+        void returnsListContainingNulls() {
             var sut = new TestSeq<>(0, ISeq.of(null, null));
 
-            assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> sut.reify());
+            assertThat(sut.reify()).containsExactly(0, null, null);
+            assertThat(sut.subList(1, 3)).containsExactly(null, null);
+            assertThat(sut.listIterator(3).previous()).isNull();
+        }
+
+        @Test
+        void returnsSameListWhenCalledRepeatedly() {
+            var sut = TestSeq.from(0, 1, 2, 3);
+
+            assertThat(sut.reify()).isSameAs(sut.reify());
         }
     }
 
@@ -1231,6 +1725,83 @@ class ASeqTest {
                     .containsEntry(1, "b")
                     .containsEntry(2, "bb");
         }
+
+        @Test
+        void returnsUnmodifiableMap() {
+            var sut = TestSeq.from("a", "bb");
+
+            assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> sut.toMap(k -> k.length(), v -> v).put(3, "ccc"));
+            assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> sut.toMap(k -> k.length(), v -> v, (a, b) -> b).put(3, "ccc"));
+        }
+
+        @Test
+        void throwsOnNullKeyOrValue() {
+            var sut = TestSeq.from("a", "bb");
+
+            assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> sut.toMap(k -> null, v -> v));
+            assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> sut.toMap(k -> k, v -> null));
+            assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> sut.toMap(k -> null, v -> v, (a, b) -> b));
+            assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> sut.toMap(k -> k, v -> null, (a, b) -> b));
+        }
+
+        @Test
+        void returnsMapSuppliedByFactoryWithApplyingMergerOnCollision() {
+            var sut = TestSeq.from("bb", "a", "b", "aa");
+
+            var actual = sut.toMap(k -> k.charAt(0), v -> v, (a, b) -> a + b, TreeMap::new);
+
+            assertThat(actual)
+                    .isExactlyInstanceOf(TreeMap.class)
+                    .containsExactly(java.util.Map.entry('a', "aaa"), java.util.Map.entry('b', "bbb"));
+        }
+    }
+
+    @Nested
+    class GroupBy {
+
+        @Test
+        void returnsEmptyMapForEmptySeq() {
+            assertThat(ISeq.<Integer>of().groupBy(x -> x % 2)).isEmpty();
+        }
+
+        @Test
+        void returnsItemsGroupedByKeyInOrder() {
+            var sut = TestSeq.from("a", "bb", "c", "dd", "eee");
+
+            var actual = sut.groupBy(x -> x.length());
+
+            assertThat(actual).hasSize(3)
+                    .containsEntry(1, List.of("a", "c"))
+                    .containsEntry(2, List.of("bb", "dd"))
+                    .containsEntry(3, List.of("eee"));
+        }
+
+        @Test
+        void returnsUnmodifiableMapOfUnmodifiableLists() {
+            var actual = TestSeq.from("a", "bb").groupBy(x -> x.length());
+
+            assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> actual.put(3, List.of()));
+            assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> actual.get(1).add("c"));
+        }
+    }
+
+    @Nested
+    class Frequencies {
+
+        @Test
+        void returnsEmptyMapForEmptySeq() {
+            assertThat(ISeq.of().frequencies()).isEmpty();
+        }
+
+        @Test
+        void returnsNumberOfOccurrencesOfEachItem() {
+            var sut = TestSeq.from("a", "b", "a", "c", "a", "b");
+
+            assertThat(sut.frequencies()).hasSize(3)
+                    .containsEntry("a", 3L)
+                    .containsEntry("b", 2L)
+                    .containsEntry("c", 1L);
+        }
     }
 
     @Test
@@ -1240,6 +1811,13 @@ class ASeqTest {
         assertThat(sut.count()).isEqualTo(4);
     }
 
+    @Test
+    void countStopsWalkingAtCountedRest() {
+        var sut = new TestSeq<>(0, ISeq.cons(1, ISeq.range(2, 100000000)));
+
+        assertThat(sut.count()).isEqualTo(100000000);
+    }
+
     @Test
     void forEachCallsConsumerForEveryItemPresent() {
         var consumer = Mockito.<Consumer<Integer>>mock();
@@ -1327,6 +1905,49 @@ class ASeqTest {
     @Nested
     class CollectionTest {
 
+        @Test
+        void containsStopsAtFirstMatch() {
+            var sut = ISeq.iterate(0, x -> x + 1);
+
+            assertThat(sut.contains(5)).isTrue();
+        }
+
+        @Test
+        void containsSupportsNulls() {
+            var sut = new TestSeq<>(0, ISeq.of(null, 2));
+
+            assertThat(sut.contains(null)).isTrue();
+            assertThat(sut.contains(2)).isTrue();
+            assertThat(sut.contains(3)).isFalse();
+        }
+
+        @Test
+        void containsAllReturnsTrueIfAllItemsArePresent() {
+            var sut = TestSeq.from(0, 1, 2);
+
+            assertThat(sut.containsAll(List.of(2, 0))).isTrue();
+            assertThat(sut.containsAll(List.of(2, 3))).isFalse();
+        }
+
+        @Test
+        void containsAllStopsWhenAllItemsAreFound() {
+            var sut = ISeq.iterate(0, x -> x + 1);
+
+            assertThat(sut.containsAll(Arrays.asList(5, 3, 5))).isTrue();
+        }
+
+        @Test
+        void indexOfReturnsIndexOfFirstAndLastMatch() {
+            var sut = new TestSeq<>(0, ISeq.of(null, 2, null, 0));
+
+            assertThat(sut.indexOf(null)).isEqualTo(1);
+            assertThat(sut.lastIndexOf(null)).isEqualTo(3);
+            assertThat(sut.indexOf(0)).isEqualTo(0);
+            assertThat(sut.lastIndexOf(0)).isEqualTo(4);
+            assertThat(sut.indexOf(5)).isEqualTo(-1);
+            assertThat(sut.lastIndexOf(5)).isEqualTo(-1);
+        }
+
         @Test
         void streamReturnsStream() {
             var sut = TestSeq.from(0, 1, 2);
@@ -1351,5 +1972,71 @@ class ASeqTest {
 
             assertThat(sut).hasToString("[0, 1, 2, 3]");
         }
+
+        @Test
+        void equalsReturnsTrueForSeqsWithEqualItems() {
+            assertThat(TestSeq.from(0, null, 2)).isEqualTo(TestSeq.from(0, null, 2));
+            assertThat(TestSeq.from(0, 1, 2)).isEqualTo(ISeq.of(0, 1, 2));
+            assertThat(TestSeq.from(0, 1, 2)).isEqualTo(ISeq.range(3));
+        }
+
+        @Test
+        void equalsReturnsFalseForSeqsWithDifferentItems() {
+            assertThat(TestSeq.from(0, 1, 2)).isNotEqualTo(TestSeq.from(0, 1, 3));
+            assertThat(TestSeq.from(0, 1, 2)).isNotEqualTo(TestSeq.from(0, 1));
+            assertThat(TestSeq.from(0, 1)).isNotEqualTo(TestSeq.from(0, 1, 2));
+            assertThat(TestSeq.from(0, 1, 2)).isNotEqualTo(List.of(0, 1, 2));
+        }
+
+        @Test
+        void equalsReturnsFalseForSeqsWithDifferentCachedHashCodes() {
+            var sut = ISeq.cons(0, TestSeq.from(1, 2));
+            var other = ISeq.cons(0, TestSeq.from(1, 3));
+            sut.hashCode();
+            other.hashCode();
+
+            assertThat(sut).isNotEqualTo(other);
+        }
+
+        @Test
+        void equalsAndHashCodeReflectChangesToArrayOfSeq() {
+            var array = new Integer[]{0, 1, 2};
+            var sut = ISeq.seq(array);
+            var lazy = ISeq.lazySeq(() -> sut);
+            var before = sut.hashCode();
+            lazy.hashCode();
+
+            array[2] = 3;
+
+            assertThat(sut.hashCode()).isNotEqualTo(before).isEqualTo(ISeq.of(0, 1, 3).hashCode());
+            assertThat(lazy.hashCode()).isEqualTo(sut.hashCode());
+            assertThat(sut).isEqualTo(ISeq.cons(0, TestSeq.from(1, 3)));
+        }
+
+        @Test
+        void hashCodeIsEqualForSeqsWithEqualItems() {
+            assertThat(TestSeq.from(0, null, 2).hashCode()).isEqualTo(TestSeq.from(0, null, 2).hashCode());
+            assertThat(TestSeq.from(0, 1, 2).hashCode()).isEqualTo(ISeq.range(3).hashCode());
+            assertThat(TestSeq.from(0, 1, 2).hashCode()).isEqualTo(0 + 1 * 31 + 2 * 31 * 31);
+        }
+
+        @Test
+        void hashCodeIncludesCachedHashCodeOfRest() {
+            var rest = ISeq.of(2, 3);
+            var expected = ISeq.of(1, 2, 3).hashCode();
+            rest.hashCode();
+
+            assertThat(new TestSeq<>(1, rest).hashCode()).isEqualTo(expected);
+        }
+
+        @Test
+        void equalsAndHashCodeDoNotOverflowStackForVeryLongSeqs() {
+            var sut = ISeq.iterate(0, x -> x + 1).take(1000000);
+            var other = ISeq.iterate(0, x -> x + 1).take(1000000);
+
+            assertThat(sut.equals(other)).isTrue();
+            assertThat(sut.hashCode()).isEqualTo(other.hashCode());
+            assertThat(sut.equals(ISeq.iterate(0, x -> x + 1).take(999999))).isFalse();
+        }
     }
 }
\ No newline at end of file
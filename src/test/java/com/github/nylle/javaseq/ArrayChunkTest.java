@@ -48,6 +48,27 @@ class ArrayChunkTest {
                 .withMessage("Index 3 out of bounds for length 3");
     }
 
+    @Test
+    void drop() {
+        var actual = from(0, 1, 2, 3, 4).dropFirst().drop(2);
+
+        assertThat(actual.count()).isEqualTo(2);
+        assertThat(actual.nth(0)).isEqualTo(3);
+        assertThat(actual.nth(1)).isEqualTo(4);
+    }
+
+    @Test
+    void slice() {
+        var actual = from(0, 1, 2, 3, 4).dropFirst().slice(1, 3);
+
+        assertThat(actual.count()).isEqualTo(2);
+        assertThat(actual.nth(0)).isEqualTo(2);
+        assertThat(actual.nth(1)).isEqualTo(3);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> actual.nth(2))
+                .withMessage("Index 2 out of bounds for length 2");
+    }
+
     @Test
     void count() {
         assertThat(from(-1, 0, 1, 2, 3, 4).count()).isEqualTo(6);
@@ -4,15 +4,19 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
+import java.util.stream.StreamSupport;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
-import static org.mockito.Mockito.when;
 
 class ArraySeqTest {
 
@@ -126,14 +130,110 @@ class ArraySeqTest {
         }
 
         @Test
-        void isLazy() {
-            var pred = Mockito.<Predicate<Integer>>mock();
-            when(pred.test(1)).thenAnswer((arg) -> arg.getArgument(0).equals(1));
+        void isLazyPerChunk() {
+            var items = new Integer[100];
+            for (int i = 0; i < items.length; i++) {
+                items[i] = i;
+            }
+            var calls = new AtomicInteger();
 
-            sutFrom(1, 2, 3).filter(pred).take(1).str();
+            var actual = sutFrom(items).filter(x -> calls.incrementAndGet() > 0 && x == 1).take(1);
 
-            verify(pred).test(1);
-            verifyNoMoreInteractions(pred);
+            assertThat(calls).hasValue(0);
+            assertThat(actual).containsExactly(1);
+            assertThat(calls).hasValue(32);
+        }
+
+        @Test
+        void returnsChunkedSeq() {
+            var actual = sutFrom(0, 1, 2, 3, 4, 5).filter(x -> x % 2 == 0);
+
+            assertThat(((LazySeq<Integer>) actual).seq()).isExactlyInstanceOf(ChunkedCons.class);
+            assertThat(actual).containsExactly(0, 2, 4);
+        }
+
+        @Test
+        void doesNotOverflowStackForLongRunOfNonMatchingItems() {
+            var items = new Integer[10000000];
+            Arrays.fill(items, 0);
+            items[items.length - 1] = 1;
+
+            assertThat(sutFrom(items).filter(x -> x > 0)).containsExactly(1);
+        }
+    }
+
+    @Nested
+    class SubList {
+
+        @Test
+        void returnsSliceOfTheArray() {
+            var actual = sutFrom(0, 1, 2, 3, 4).rest().subList(1, 3);
+
+            assertThat(actual).isExactlyInstanceOf(ArraySeq.class).containsExactly(2, 3);
+        }
+
+        @Test
+        void returnsEmptyListForEqualIndices() {
+            assertThat(sutFrom(0, 1, 2).subList(1, 1)).isEmpty();
+        }
+
+        @Test
+        void throwsForIndicesOutOfRange() {
+            var sut = sutFrom(0, 1, 2);
+
+            assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> sut.subList(-1, 2));
+            assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> sut.subList(1, 4));
+            assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> sut.subList(2, 1));
+        }
+    }
+
+    @Nested
+    class IteratorTest {
+
+        @Test
+        void returnsItemsByIndex() {
+            var actual = sutFrom(0, 1, 2, 3).rest().iterator();
+
+            assertThat(actual).isExactlyInstanceOf(IndexedIterator.class);
+            assertThat(actual).toIterable().containsExactly(1, 2, 3);
+        }
+
+        @Test
+        void throwsWhenExhausted() {
+            var actual = sutFrom(0).iterator();
+
+            assertThat(actual.next()).isEqualTo(0);
+            assertThat(actual.hasNext()).isFalse();
+            assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(actual::next);
+        }
+    }
+
+    @Nested
+    class MapKeepAndMapcat {
+
+        @Test
+        void mapReturnsChunkedSeqOfMappedItems() {
+            var items = new Integer[100];
+            for (int i = 0; i < items.length; i++) {
+                items[i] = i;
+            }
+
+            var actual = sutFrom(items).map(x -> x * 2);
+
+            assertThat(((LazySeq<Integer>) actual).seq()).isExactlyInstanceOf(ChunkedCons.class);
+            assertThat(actual).isEqualTo(ISeq.range(0, 200, 2));
+        }
+
+        @Test
+        void keepReturnsNonNullResults() {
+            var actual = sutFrom(0, 1, 2, 3, 4, 5).keep(x -> x % 2 == 0 ? null : "" + x);
+
+            assertThat(actual).containsExactly("1", "3", "5");
+        }
+
+        @Test
+        void mapcatReturnsFlattenedResults() {
+            assertThat(sutFrom(0, 1, 2).mapcat(x -> List.of(x, x))).containsExactly(0, 0, 1, 1, 2, 2);
         }
     }
 
@@ -301,6 +401,96 @@ class ArraySeqTest {
         }
     }
 
+    @Test
+    void estimatesLengthOfJoinedStringWithoutOverflow() {
+        var sut = new ArraySeq<>(new Integer[100_000]);
+
+        assertThat(sut.estimateLength("x".repeat(100_000))).isEqualTo(100_000L * 100_001);
+        assertThat(sut.join(", ", "[", "]")).startsWith("[null, null").endsWith("null]");
+    }
+
+    @Nested
+    class Fold {
+
+        @Test
+        void returnsResultOfReducingAndCombiningPartitionsInOrder() {
+            var items = new Integer[10000];
+            for (int i = 0; i < items.length; i++) {
+                items[i] = i;
+            }
+            var sut = sutFrom(items);
+
+            assertThat(sut.fold(16, () -> 0L, Long::sum, (acc, x) -> acc + x)).isEqualTo(49995000L);
+            assertThat(sut.fold(16, StringBuilder::new, StringBuilder::append, StringBuilder::append).toString())
+                    .isEqualTo(sut.str());
+        }
+
+        @Test
+        void returnsInitWhenSeqIsEmpty() {
+            assertThat(sutFrom(1, 2, 3).drop(3).fold(() -> 42, Integer::sum, Integer::sum)).isEqualTo(42);
+        }
+
+        @Test
+        void throwsWhenPartitionSizeIsLessThanOne() {
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> sutFrom(1, 2, 3).fold(0, () -> 0, Integer::sum, Integer::sum))
+                    .withMessage("n must be greater than 0");
+        }
+    }
+
+    @Nested
+    class Distinct {
+
+        @Test
+        void returnsDistinctItemsInOrder() {
+            var items = new Integer[100];
+            for (int i = 0; i < items.length; i++) {
+                items[i] = i % 40;
+            }
+
+            assertThat(sutFrom(items).distinct()).isEqualTo(ISeq.range(40));
+        }
+
+        @Test
+        void distinctByReturnsFirstItemForEachDistinctKey() {
+            assertThat(sutFrom("a", "bb", "c", "dd", "eee").distinctBy(String::length)).containsExactly("a", "bb", "eee");
+        }
+    }
+
+    @Nested
+    class SpliteratorTest {
+
+        @Test
+        void reportsExactSizeAndCharacteristics() {
+            var actual = sutFrom(1, 2, 3, 4, 5).drop(1).spliterator();
+
+            assertThat(actual.getExactSizeIfKnown()).isEqualTo(4);
+            assertThat(actual.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED)).isTrue();
+            assertThat(actual.hasCharacteristics(Spliterator.ORDERED | Spliterator.IMMUTABLE)).isTrue();
+        }
+
+        @Test
+        void splitsInHalves() {
+            var sut = sutFrom(1, 2, 3, 4, 5).spliterator();
+
+            var prefix = sut.trySplit();
+
+            assertThat(StreamSupport.stream(prefix, false)).containsExactly(1, 2);
+            assertThat(StreamSupport.stream(sut, false)).containsExactly(3, 4, 5);
+        }
+
+        @Test
+        void parallelStreamReturnsAllItemsInOrder() {
+            var items = new Integer[10000];
+            for (int i = 0; i < items.length; i++) {
+                items[i] = i;
+            }
+
+            assertThat(sutFrom(items).parallelStream().isParallel()).isTrue();
+            assertThat(sutFrom(items).parallelStream().map(x -> x * 2).toList()).isEqualTo(sutFrom(items).map(x -> x * 2));
+        }
+    }
+
     @Nested
     class Some {
 
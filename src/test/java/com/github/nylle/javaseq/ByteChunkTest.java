@@ -0,0 +1,59 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ByteChunkTest {
+
+    private static ByteChunk from(int... items) {
+        var buffer = ByteBuffer.allocateDirect(items.length);
+        for (int item : items) {
+            buffer.put((byte) item);
+        }
+        return new ByteChunk(buffer, 0, items.length);
+    }
+
+    @Test
+    void nth() {
+        var sut = from(-1, 0, 1, 2, 3, 4).dropFirst().dropLast(1);
+
+        assertThat(sut.nth(0)).isEqualTo((byte) 0);
+        assertThat(sut.nth(3)).isEqualTo((byte) 3);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> sut.nth(4))
+                .withMessage("Index 4 out of bounds for length 4");
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> sut.nth(-1))
+                .withMessage("Index -1 out of bounds for length 4");
+    }
+
+    @Test
+    void drop() {
+        var actual = from(0, 1, 2, 3, 4).dropFirst().drop(2);
+
+        assertThat(actual.count()).isEqualTo(2);
+        assertThat(actual.nth(0)).isEqualTo((byte) 3);
+        assertThat(actual.nth(1)).isEqualTo((byte) 4);
+    }
+
+    @Test
+    void slice() {
+        var actual = from(0, 1, 2, 3, 4).dropFirst().slice(1, 3);
+
+        assertThat(actual.count()).isEqualTo(2);
+        assertThat(actual.nth(0)).isEqualTo((byte) 2);
+        assertThat(actual.nth(1)).isEqualTo((byte) 3);
+    }
+
+    @Test
+    void count() {
+        assertThat(from(-1, 0, 1, 2, 3, 4).count()).isEqualTo(6);
+        assertThat(from(-1, 0, 1, 2, 3, 4).dropFirst().dropLast(2).count()).isEqualTo(3);
+    }
+}
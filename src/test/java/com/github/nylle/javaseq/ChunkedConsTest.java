@@ -4,10 +4,16 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -87,6 +93,90 @@ class ChunkedConsTest {
 
             assertThat(sut.filter(x -> x > 1 && x < 6)).containsExactly(2, 3, 4, 5);
         }
+
+        @Test
+        void skipsChunksWithoutMatchingItems() {
+            var sut = new ChunkedCons<>(arrayChunk(1, 2), new ChunkedCons<>(arrayChunk(3, 4), new ChunkedCons<>(arrayChunk(5, 6), Nil.empty())));
+
+            var actual = sut.filter(x -> x > 4);
+
+            assertThat(((LazySeq<Integer>) actual).seq()).isExactlyInstanceOf(ChunkedCons.class);
+            assertThat(actual).containsExactly(5, 6);
+        }
+    }
+
+    @Nested
+    class IteratorTest {
+
+        @Test
+        void walksChunksWithoutCallingRest() {
+            var sut = Mockito.spy(new ChunkedCons<>(arrayChunk(1, 2, 3), new ChunkedCons<>(arrayChunk(4, 5), ISeq.of(6))));
+
+            var actual = sut.iterator();
+
+            assertThat(actual).toIterable().containsExactly(1, 2, 3, 4, 5, 6);
+            verify(sut, Mockito.never()).rest();
+        }
+
+        @Test
+        void throwsWhenExhausted() {
+            var actual = new ChunkedCons<>(arrayChunk(1), ISeq.of()).iterator();
+
+            assertThat(actual.next()).isEqualTo(1);
+            assertThat(actual.hasNext()).isFalse();
+            assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(actual::next);
+        }
+
+        @Test
+        void forEachRemainingContinuesFromCurrentItem() {
+            var actual = new ChunkedCons<>(arrayChunk(1, 2), ISeq.of(3, 4)).iterator();
+            var result = new ArrayList<Integer>();
+
+            actual.next();
+            actual.forEachRemaining(result::add);
+
+            assertThat(result).containsExactly(2, 3, 4);
+            assertThat(actual.hasNext()).isFalse();
+        }
+    }
+
+    @Nested
+    class Partition {
+
+        @Test
+        void returnsPartitionsBackedByArrays() {
+            var sut = new ChunkedCons<>(arrayChunk(0, 1, 2), new ChunkedCons<>(arrayChunk(3, 4, 5), ISeq.of(6)));
+
+            var actual = sut.partition(3, 2);
+
+            assertThat(actual).containsExactly(ISeq.of(0, 1, 2), ISeq.of(2, 3, 4), ISeq.of(4, 5, 6));
+            assertThat(actual).allSatisfy(x -> assertThat(x).isExactlyInstanceOf(ArraySeq.class));
+        }
+
+        @Test
+        void padsLastPartition() {
+            var sut = new ChunkedCons<>(arrayChunk(0, 1, 2), ISeq.of(3, 4));
+
+            assertThat(sut.partition(3, 3, List.of(-1))).containsExactly(ISeq.of(0, 1, 2), ISeq.of(3, 4, -1));
+        }
+    }
+
+    @Nested
+    class Keep {
+
+        @Test
+        void returnsNilWhenAllResultsAreNull() {
+            var sut = new ChunkedCons<>(arrayChunk(1, 2, 3), ISeq.of(4, 5, 6));
+
+            assertThat(sut.keep(x -> null)).isEmpty();
+        }
+
+        @Test
+        void returnsNonNullResults() {
+            var sut = new ChunkedCons<>(arrayChunk(1, 2, 3), ISeq.of(4, 5, 6));
+
+            assertThat(sut.keep(x -> x % 2 == 0 ? "" + x : null)).containsExactly("2", "4", "6");
+        }
     }
 
     @Nested
@@ -274,6 +364,7 @@ class ChunkedConsTest {
             assertThat(sut.take(2))
                     .isExactlyInstanceOf(LazySeq.class)
                     .containsExactly(1, 2);
+            assertThat(LazySeq.unwrap(sut.take(2))).isExactlyInstanceOf(ChunkedCons.class);
         }
 
         @Test
@@ -306,6 +397,24 @@ class ChunkedConsTest {
     @Nested
     class Drop {
 
+        @Test
+        void skipsWholeChunks() {
+            var sut = new ChunkedCons<>(arrayChunk(1, 2, 3), new ChunkedCons<>(arrayChunk(4, 5, 6), ISeq.of(7, 8)));
+
+            assertThat(sut.drop(3)).containsExactly(4, 5, 6, 7, 8);
+            assertThat(sut.drop(4)).containsExactly(5, 6, 7, 8);
+            assertThat(LazySeq.unwrap(sut.drop(4))).isExactlyInstanceOf(ChunkedCons.class);
+            assertThat(sut.drop(7)).containsExactly(8);
+            assertThat(sut.drop(9)).isEmpty();
+        }
+
+        @Test
+        void doesNotOverflowStackForLongChains() {
+            var sut = ISeq.seq(ISeq.range(1000000).iterator());
+
+            assertThat(sut.drop(999998)).containsExactly(999998, 999999);
+        }
+
         @Test
         void returnsUnchangedSeqWithNegativeItemsToDrop() {
             var sut = new ChunkedCons<>(arrayChunk(1, 2, 3), ISeq.of(4, 5, 6));
@@ -639,6 +748,14 @@ class ChunkedConsTest {
     @Nested
     class Nth {
 
+        @Test
+        void doesNotOverflowStackForLongChains() {
+            var sut = ISeq.seq(ISeq.range(1000000).iterator());
+
+            assertThat(sut.nth(999999)).isEqualTo(999999);
+            assertThat(sut.nth(1000000, -1)).isEqualTo(-1);
+        }
+
         @Test
         void returnsValueAtIndex() {
             var sut = new ChunkedCons<>(arrayChunk("", null, "1"), ISeq.of("2", null, "4"));
@@ -693,6 +810,31 @@ class ChunkedConsTest {
                 .matches("java\\.lang\\.Object@.+java\\.lang\\.Object@.+java\\.lang\\.Object@.+java\\.lang\\.Object@.+");
     }
 
+    @Test
+    void strAppendsStringChunksAcrossLazyRest() {
+        var sut = new ChunkedCons<>(new StringChunk("xfoo", 1, 4), ISeq.lazySeq(() -> new ChunkedCons<>(new StringChunk("bar", 0, 3), ISeq.of('!'))));
+
+        assertThat(sut.str()).isEqualTo("foobar!");
+    }
+
+    @Test
+    void writeToEncodesStringChunksAcrossLazyRest() {
+        var sut = new ChunkedCons<>(new StringChunk("xfoo", 1, 4), ISeq.lazySeq(() -> new ChunkedCons<>(new StringChunk("bär", 0, 3), ISeq.of('!'))));
+        var out = new ByteArrayOutputStream();
+
+        sut.writeTo(out, StandardCharsets.UTF_8);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("foobär!");
+    }
+
+    @Test
+    void joinReturnsItemsSeparatedAndEnclosed() {
+        var sut = new ChunkedCons<>(arrayChunk(1, 2), ISeq.lazySeq(() -> new ChunkedCons<>(arrayChunk(3), ISeq.of(4, 5))));
+
+        assertThat(sut.join(", ", "[", "]")).isEqualTo("[1, 2, 3, 4, 5]");
+        assertThat(new ChunkedCons<>(new StringChunk("abc", 0, 3), ISeq.of('d')).join("-", "", "")).isEqualTo("a-b-c-d");
+    }
+
     @Test
     void reverseReturnsReversedSeq() {
         var sut = new ChunkedCons<>(arrayChunk(1, 2, 3), ISeq.of(4, 5, 6));
@@ -700,6 +842,34 @@ class ChunkedConsTest {
         assertThat(sut.reverse()).containsExactly(6, 5, 4, 3, 2, 1);
     }
 
+    @Test
+    void countReturnsSizeOfLongLazyChainAndCachesIt() {
+        var sut = ISeq.seq(ISeq.range(1000000).iterator());
+
+        assertThat(sut.count()).isEqualTo(1000000);
+        assertThat(sut.rest().count()).isEqualTo(999999);
+        assertThat(sut.count()).isEqualTo(1000000);
+    }
+
+    @Test
+    void reduceSomeAndEveryDoNotOverflowStackForVeryLongSeq() {
+        var sut = ISeq.seq(ISeq.range(10000000).iterator());
+
+        assertThat(sut.reduce(0L, (acc, x) -> acc + x)).isEqualTo(49999995000000L);
+        assertThat(sut.some(x -> x == 9999999)).isTrue();
+        assertThat(sut.every(x -> x >= 0)).isTrue();
+    }
+
+    @Test
+    void countDoesNotOverflowStackForChunksAlternatingWithOtherSeqs() {
+        ISeq<Integer> sut = ISeq.of();
+        for (int i = 0; i < 100000; i++) {
+            sut = new ChunkedCons<>(arrayChunk(1, 2), new Cons<>(3, sut));
+        }
+
+        assertThat(sut.count()).isEqualTo(300000);
+    }
+
     @Test
     void countReturnsSizeOfSeq() {
         var sut = new ChunkedCons<>(arrayChunk(1, 2, 3), ISeq.of(4, 5, 6));
@@ -725,21 +895,129 @@ class ChunkedConsTest {
         verifyNoMoreInteractions(proc);
     }
 
+    @Nested
+    class Fold {
+
+        @Test
+        void returnsResultOfReducingAndCombiningChunksInOrder() {
+            var sut = ISeq.seq(ISeq.range(10000).iterator());
+
+            assertThat(sut.fold(64, () -> 0L, Long::sum, (acc, x) -> acc + x)).isEqualTo(49995000L);
+            assertThat(sut.fold(64, StringBuilder::new, StringBuilder::append, StringBuilder::append).toString())
+                    .isEqualTo(ISeq.range(10000).str());
+        }
+
+        @Test
+        void partitionsByTotalItemCountDespiteShortLeadingChunk() {
+            var sut = ISeq.seq(ISeq.range(10000).iterator()).drop(31);
+            var partitions = new AtomicInteger();
+
+            var actual = sut.fold(640, () -> {
+                partitions.incrementAndGet();
+                return 0L;
+            }, Long::sum, (acc, x) -> acc + x);
+
+            assertThat(actual).isEqualTo(49995000L - 465L);
+            assertThat(partitions.get()).isGreaterThan(8);
+        }
+
+        @Test
+        void reducesNonChunkedRestSequentially() {
+            var sut = new ChunkedCons<>(arrayChunk(1, 2, 3), ISeq.cons(4, ISeq.of(5, 6)));
+
+            assertThat(sut.fold(1, () -> "", String::concat, (acc, x) -> acc + x)).isEqualTo("123456");
+        }
+    }
+
+    @Nested
+    class Distinct {
+
+        @Test
+        void returnsDistinctItemsAcrossChunksAndRest() {
+            var sut = new ChunkedCons<>(arrayChunk(1, 2, 1), new ChunkedCons<>(arrayChunk(2, 2), ISeq.of(3, 1, 4)));
+
+            assertThat(sut.distinct()).containsExactly(1, 2, 3, 4);
+        }
+
+        @Test
+        void returnsChunkedSeqOfDistinctItems() {
+            var sut = ISeq.seq(ISeq.range(1000000).map(x -> x % 1000).iterator());
+
+            var actual = sut.distinct();
+
+            assertThat(actual.count()).isEqualTo(1000);
+            assertThat(actual).isExactlyInstanceOf(LazySeq.class);
+            assertThat(((LazySeq<Integer>) actual).seq()).isExactlyInstanceOf(ChunkedCons.class);
+            assertThat(actual).isEqualTo(ISeq.range(1000));
+        }
+
+        @Test
+        void distinctByReturnsFirstItemForEachDistinctKey() {
+            var sut = new ChunkedCons<>(arrayChunk(1, 2, 3), new ChunkedCons<>(arrayChunk(4, 5), ISeq.of(6, 7)));
+
+            assertThat(sut.distinctBy(x -> x % 3)).containsExactly(1, 2, 3);
+        }
+    }
+
+    @Nested
+    class SpliteratorTest {
+
+        @Test
+        void splitsOnChunkBoundaries() {
+            var sut = new ChunkedCons<>(arrayChunk(1, 2, 3), new ChunkedCons<>(arrayChunk(4, 5), ISeq.of(6, 7))).spliterator();
+
+            var first = sut.trySplit();
+            var second = sut.trySplit();
+
+            assertThat(first.getExactSizeIfKnown()).isEqualTo(3);
+            assertThat(StreamSupport.stream(first, false)).containsExactly(1, 2, 3);
+            assertThat(second.getExactSizeIfKnown()).isEqualTo(2);
+            assertThat(StreamSupport.stream(second, false)).containsExactly(4, 5);
+            assertThat(StreamSupport.stream(sut, false)).containsExactly(6, 7);
+        }
+
+        @Test
+        void traversesItemsAcrossChunksAndRest() {
+            var sut = new ChunkedCons<>(arrayChunk(1, 2, 3), new ChunkedCons<>(arrayChunk(4, 5), ISeq.of(6, 7))).spliterator();
+
+            sut.tryAdvance(x -> assertThat(x).isEqualTo(1));
+
+            assertThat(StreamSupport.stream(sut, false)).containsExactly(2, 3, 4, 5, 6, 7);
+        }
+
+        @Test
+        void doesNotRealizeLazyRestUntilTraversed() {
+            var sut = ISeq.seq(ISeq.range(100).iterator());
+
+            var actual = sut.map(x -> x * 2).spliterator();
+
+            assertThat(sut.drop(32).isRealized()).isFalse();
+            assertThat(StreamSupport.stream(actual, false).toList()).isEqualTo(ISeq.range(0, 200, 2));
+        }
+
+        @Test
+        void parallelStreamReturnsAllItemsInOrder() {
+            var sut = ISeq.seq(ISeq.range(10000).iterator());
+
+            assertThat(sut.parallelStream().map(x -> x * 2).toList()).isEqualTo(ISeq.range(0, 20000, 2));
+        }
+    }
+
     @Nested
     class Reify {
 
         @Test
-        void throwsWhenChunkContainsNull() {
+        void returnsNullsInChunk() {
             var sut = new ChunkedCons<>(arrayChunk(1, 2, 3, null), ISeq.of(4, 5, 6));
 
-            assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> sut.reify());
+            assertThat(sut.reify()).containsExactly(1, 2, 3, null, 4, 5, 6);
         }
 
         @Test
-        void throwsWhenRestContainsNull() {
+        void returnsNullsInRest() {
             var sut = new ChunkedCons<>(arrayChunk(1, 2, 3), ISeq.of(4, 5, 6, null));
 
-            assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> sut.reify());
+            assertThat(sut.reify()).containsExactly(1, 2, 3, 4, 5, 6, null);
         }
 
         @Test
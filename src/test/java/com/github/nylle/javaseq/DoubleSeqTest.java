@@ -0,0 +1,118 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalDouble;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class DoubleSeqTest {
+
+    private static DoubleSeq sutFrom(double... items) {
+        return new DoubleSeq(new DoubleChunk(items));
+    }
+
+    @Test
+    void restTakeAndDropReturnDoubleSeqs() {
+        var sut = sutFrom(1.0, 2.0, 3.0);
+
+        assertThat(sut.rest()).isExactlyInstanceOf(DoubleSeq.class).containsExactly(2.0, 3.0);
+        assertThat(sut.take(2)).isExactlyInstanceOf(DoubleSeq.class).containsExactly(1.0, 2.0);
+        assertThat(sut.drop(2)).isExactlyInstanceOf(DoubleSeq.class).containsExactly(3.0);
+    }
+
+    @Test
+    void nthReturnsItemAtIndex() {
+        var sut = sutFrom(1.0, 2.0, 3.0);
+
+        assertThat(sut.nth(1)).isEqualTo(2.0);
+        assertThat(sut.nth(3, 0.0)).isEqualTo(0.0);
+        assertThat(sut.nthDouble(2)).isEqualTo(3.0);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> sut.nthDouble(3))
+                .withMessage("Index 3 out of bounds for length 3");
+    }
+
+    @Nested
+    class MapDouble {
+
+        @Test
+        void returnsSeqOfMappedItems() {
+            assertThat(sutFrom(1.0, 2.0, 3.0).mapDouble(x -> x * 2))
+                    .isExactlyInstanceOf(DoubleSeq.class)
+                    .containsExactly(2.0, 4.0, 6.0);
+        }
+
+        @Test
+        void returnsEmptySeqForEmptySeq() {
+            assertThat(sutFrom().mapDouble(x -> x * 2)).isEmpty();
+        }
+    }
+
+    @Nested
+    class FilterDouble {
+
+        @Test
+        void returnsMatchingItems() {
+            assertThat(sutFrom(1.0, 2.0, 3.0, 4.0).filterDouble(x -> x % 2 == 0))
+                    .isExactlyInstanceOf(DoubleSeq.class)
+                    .containsExactly(2.0, 4.0);
+        }
+
+        @Test
+        void returnsEmptySeqWhenNoItemsMatch() {
+            assertThat(sutFrom(1.0, 2.0, 3.0).filterDouble(x -> x > 3.0)).isEmpty();
+        }
+    }
+
+    @Test
+    void reduceDoubleReturnsResultOfReduction() {
+        assertThat(sutFrom(1.0, 2.0, 3.0).reduceDouble(1.0, (a, b) -> a * b)).isEqualTo(6.0);
+        assertThat(sutFrom().reduceDouble(1.0, (a, b) -> a * b)).isEqualTo(1.0);
+    }
+
+    @Test
+    void sumReturnsSumOfAllItems() {
+        assertThat(sutFrom(1.0, 2.0, 3.0).sum()).isEqualTo(6.0);
+        assertThat(sutFrom().sum()).isEqualTo(0.0);
+    }
+
+    @Test
+    void minAndMaxReturnLeastAndGreatestItem() {
+        var sut = sutFrom(2.0, 1.0, 3.0);
+
+        assertThat(sut.min()).isEqualTo(OptionalDouble.of(1.0));
+        assertThat(sut.max()).isEqualTo(OptionalDouble.of(3.0));
+        assertThat(sutFrom().min()).isEqualTo(OptionalDouble.empty());
+        assertThat(sutFrom().max()).isEqualTo(OptionalDouble.empty());
+    }
+
+    @Test
+    void mapToObjReturnsSeqOfMappedItems() {
+        assertThat(sutFrom(1.0, 2.0).mapToObj(x -> "x" + x))
+                .isExactlyInstanceOf(ArraySeq.class)
+                .containsExactly("x" + 1.0, "x" + 2.0);
+        assertThat(sutFrom().mapToObj(x -> "x" + x)).isEmpty();
+    }
+
+    @Test
+    void toDoubleArrayReturnsCopyOfItems() {
+        var array = new double[] {1.0, 2.0, 3.0};
+        var sut = sutFrom(array).rest();
+
+        var actual = sut.toDoubleArray();
+
+        assertThat(actual).containsExactly(2.0, 3.0);
+        actual[0] = 0.0;
+        assertThat(sut.first()).isEqualTo(2.0);
+    }
+
+    @Test
+    void isEqualToSeqOfBoxedItems() {
+        assertThat(sutFrom(1.0, 2.0, 3.0)).isEqualTo(ISeq.of(1.0, 2.0, 3.0));
+        assertThat(sutFrom()).isEqualTo(ISeq.of());
+        assertThat(ISeq.of()).isEqualTo(sutFrom());
+    }
+}
@@ -0,0 +1,63 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExternalSortTest {
+
+    private static final ISerializer<Integer> INTS = ISerializer.of(DataOutput::writeInt, DataInput::readInt);
+
+    @TempDir
+    Path directory;
+
+    private long files() throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    void deletesRunFilesAfterFullRealization() throws IOException {
+        var items = ISeq.iterate(7, x -> (x * 31 + 11) % 1009).take(100);
+        var sut = new ExternalSort<Integer>(Comparator.naturalOrder(), INTS, 10, ExternalSort.FAN_IN, directory);
+
+        var actual = sut.sort(items.iterator());
+
+        assertThat(actual.take(5)).containsExactlyElementsOf(items.sorted().take(5));
+        assertThat(files()).isEqualTo(10);
+        assertThat(actual).containsExactlyElementsOf(items.sorted());
+        assertThat(files()).isZero();
+    }
+
+    @Test
+    void mergesInSeveralPassesWhenThereAreMoreRunsThanFanIn() throws IOException {
+        var items = ISeq.iterate(7, x -> (x * 31 + 11) % 1009).take(1000);
+        var sut = new ExternalSort<Integer>(Comparator.naturalOrder(), INTS, 3, 4, directory);
+
+        var actual = sut.sort(items.iterator());
+
+        assertThat(files()).isLessThanOrEqualTo(4);
+        assertThat(actual).containsExactlyElementsOf(items.sorted());
+        assertThat(files()).isZero();
+    }
+
+    @Test
+    void keepsOrderOfEqualItemsAcrossPasses() {
+        var serializer = ISerializer.<String>of(DataOutput::writeUTF, DataInput::readUTF);
+        var items = ISeq.range(200).map(x -> (char) ('a' + x % 3) + String.valueOf(x));
+        var sut = new ExternalSort<String>(Comparator.comparing(x -> x.charAt(0)), serializer, 5, 2, directory);
+
+        var actual = sut.sort(items.iterator());
+
+        assertThat(actual).containsExactlyElementsOf(items.sorted(Comparator.comparing(x -> x.charAt(0))));
+    }
+}
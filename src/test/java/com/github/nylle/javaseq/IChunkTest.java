@@ -0,0 +1,53 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IChunkTest {
+
+    private record MinimalChunk(Integer[] items, int offset, int end) implements IChunk<Integer> {
+
+        @Override
+        public Integer nth(int n) {
+            return items[offset + n];
+        }
+
+        @Override
+        public IChunk<Integer> dropFirst() {
+            return new MinimalChunk(items, offset + 1, end);
+        }
+
+        @Override
+        public IChunk<Integer> dropLast(int n) {
+            return new MinimalChunk(items, offset, end - n);
+        }
+
+        @Override
+        public int count() {
+            return end - offset;
+        }
+    }
+
+    private static IChunk<Integer> from(Integer... items) {
+        return new MinimalChunk(items, 0, items.length);
+    }
+
+    @Test
+    void dropDefaultsToDroppingFirstItems() {
+        var actual = from(0, 1, 2, 3, 4).drop(2);
+
+        assertThat(actual.count()).isEqualTo(3);
+        assertThat(actual.nth(0)).isEqualTo(2);
+        assertThat(from(0, 1).drop(0).count()).isEqualTo(2);
+    }
+
+    @Test
+    void sliceDefaultsToDroppingFirstAndLastItems() {
+        var actual = from(0, 1, 2, 3, 4).slice(1, 3);
+
+        assertThat(actual.count()).isEqualTo(2);
+        assertThat(actual.nth(0)).isEqualTo(1);
+        assertThat(actual.nth(1)).isEqualTo(2);
+    }
+}
@@ -4,6 +4,17 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
@@ -13,6 +24,7 @@ import java.util.Map;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.entry;
 
 class ISeqTest {
@@ -134,6 +146,45 @@ class ISeqTest {
                     .containsExactly(1, 2, 3);
         }
 
+        @Test
+        void returnsPrimitiveSeqsOfItemsInPrimitiveArrays() {
+            assertThat(ISeq.seq(new int[]{1, 2, 3})).isExactlyInstanceOf(IntSeq.class).containsExactly(1, 2, 3);
+            assertThat(ISeq.seq(new long[]{1L, 2L})).isExactlyInstanceOf(LongSeq.class).containsExactly(1L, 2L);
+            assertThat(ISeq.seq(new double[]{1.5})).isExactlyInstanceOf(DoubleSeq.class).containsExactly(1.5);
+            assertThat(ISeq.seq(new int[0])).isExactlyInstanceOf(IntSeq.class).isEmpty();
+            assertThat(ISeq.seq((long[]) null)).isExactlyInstanceOf(LongSeq.class).isEmpty();
+        }
+
+        @Test
+        void returnsPrimitiveSeqsOfRemainingItemsInDirectBuffers() {
+            var bytes = ByteBuffer.allocateDirect(32);
+            bytes.asLongBuffer().put(new long[]{1L, 2L, 3L, 4L});
+
+            var longs = bytes.asLongBuffer().position(1);
+            var actual = ISeq.seq(longs);
+            longs.position(4);
+
+            assertThat(actual).isExactlyInstanceOf(LongSeq.class).containsExactly(2L, 3L, 4L);
+            assertThat(ISeq.seq(bytes.asIntBuffer().limit(2))).isExactlyInstanceOf(IntSeq.class).containsExactly(0, 1);
+            assertThat(ISeq.seq(bytes.asDoubleBuffer().position(4))).isExactlyInstanceOf(DoubleSeq.class).isEmpty();
+        }
+
+        @Test
+        void returnsPrimitiveSeqOfMappedFile() throws IOException {
+            var bytes = ByteBuffer.allocate(8 * 1000).order(ByteOrder.LITTLE_ENDIAN);
+            bytes.asLongBuffer().put(ISeq.range(1000).mapToLong(x -> x).toLongArray());
+            var file = Files.write(Files.createTempFile("test", ".tmp"), bytes.array());
+
+            try (var channel = FileChannel.open(file)) {
+                var mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+                var actual = ISeq.seq(mapped.asLongBuffer());
+
+                assertThat(actual.count()).isEqualTo(1000);
+                assertThat(actual.sum()).isEqualTo(999L * 1000 / 2);
+                assertThat(actual.drop(998).toLongArray()).containsExactly(998L, 999L);
+            }
+        }
+
         @Test
         void returnsSeqOfKeyValuePairsInMap() {
             var map = Map.of("a", 1, "b", 2, "c", 3);
@@ -185,6 +236,248 @@ class ISeqTest {
         }
     }
 
+    @Nested
+    class SeqFromBytes {
+
+        private static final String TEXT = "ascii äöü €uro \uD83D\uDE00 emoji\n".repeat(100);
+
+        @Test
+        void decodesMultiByteCharactersAcrossReads() {
+            var in = new ByteArrayInputStream(TEXT.getBytes(StandardCharsets.UTF_8));
+
+            var actual = ISeq.seq(in, StandardCharsets.UTF_8, 7);
+
+            assertThat(actual.str()).isEqualTo(TEXT);
+        }
+
+        @Test
+        void readsChunksOfChunkSize() {
+            var in = new ByteArrayInputStream("abcdefghij".getBytes(StandardCharsets.UTF_8));
+
+            var actual = LazySeq.unwrap(ISeq.seq(in, StandardCharsets.UTF_8, 4));
+
+            assertThat(actual).isExactlyInstanceOf(ChunkedCons.class);
+            assertThat(((ChunkedCons<Character>) actual).chunkedFirst().count()).isEqualTo(4);
+            assertThat(actual).containsExactly('a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i', 'j');
+        }
+
+        @Test
+        void readsLazily() {
+            var in = new ByteArrayInputStream(TEXT.getBytes(StandardCharsets.UTF_8));
+
+            var actual = ISeq.seq(in, StandardCharsets.UTF_8, 16);
+
+            assertThat(in.available()).isEqualTo(TEXT.getBytes(StandardCharsets.UTF_8).length);
+            assertThat(actual.take(3)).containsExactly('a', 's', 'c');
+            assertThat(in.available()).isGreaterThan(0);
+        }
+
+        @Test
+        void returnsEmptySeqForEmptyStream() {
+            assertThat(ISeq.seq(new ByteArrayInputStream(new byte[0]), StandardCharsets.UTF_8)).isEmpty();
+        }
+
+        @Test
+        void replacesMalformedInput() {
+            var in = new ByteArrayInputStream(new byte[]{'a', (byte) 0xE2, (byte) 0x82});
+
+            assertThat(ISeq.seq(in, StandardCharsets.UTF_8).str()).isEqualTo("a\uFFFD");
+        }
+
+        @Test
+        void readsFromChannel() throws IOException {
+            var file = Files.createTempFile("test", ".tmp");
+            Files.writeString(file, TEXT, StandardCharsets.UTF_16);
+
+            try (var channel = FileChannel.open(file)) {
+                assertThat(ISeq.seq(channel, StandardCharsets.UTF_16).str()).isEqualTo(TEXT);
+            }
+        }
+
+        @Test
+        void throwsForChunkSizeLessThanOne() {
+            var in = new ByteArrayInputStream(new byte[0]);
+
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> ISeq.seq(in, StandardCharsets.UTF_8, 0))
+                    .withMessage("chunk size must be greater than 0");
+        }
+    }
+
+    @Nested
+    class Lines {
+
+        @Test
+        void splitsLinesAtAllTerminators() {
+            var actual = ISeq.lines(new StringReader("a\nbb\r\nccc\rdddd\n\neeeee"));
+
+            assertThat(actual).containsExactly("a", "bb", "ccc", "dddd", "", "eeeee");
+        }
+
+        @Test
+        void returnsSameLinesAsBufferedReader() {
+            var text = "line one\r\nzwei äöü\r\r\n\uD83D\uDE00\n".repeat(100);
+
+            var expected = new BufferedReader(new StringReader(text)).lines().toList();
+
+            assertThat(ISeq.lines(new StringReader(text))).containsExactlyElementsOf(expected);
+            assertThat(LineSplitter.strings(LineSplitter.buffers(new StringReader(text), 3), 4).seq()).containsExactlyElementsOf(expected);
+            assertThat(LineSplitter.views(LineSplitter.buffers(new StringReader(text), 5), 4).seq().map(CharSequence::toString)).containsExactlyElementsOf(expected);
+        }
+
+        @Test
+        void returnsChunksOfChunkSize() {
+            var actual = LazySeq.unwrap(Util.readerLineSeq(new StringReader("a\nb\nc\nd\ne"), 2));
+
+            assertThat(((ChunkedCons<String>) actual).chunkedFirst().count()).isEqualTo(2);
+            assertThat(actual).containsExactly("a", "b", "c", "d", "e");
+        }
+
+        @Test
+        void returnsViewsOfBuffer() {
+            var actual = ISeq.lineViews(new StringReader("abc\ndef"));
+
+            assertThat(actual.first()).isInstanceOf(CharBuffer.class);
+            assertThat(((CharBuffer) actual.first()).isReadOnly()).isTrue();
+            assertThat(actual.map(CharSequence::toString)).containsExactly("abc", "def");
+        }
+
+        @Test
+        void joinsLinesSpanningBuffers() {
+            var sut = LineSplitter.views(LineSplitter.buffers(new StringReader("abcdefg\r\nhi\r"), 3), 32);
+
+            assertThat(sut.seq().map(CharSequence::toString)).containsExactly("abcdefg", "hi");
+        }
+
+        @Test
+        void readsLazily() throws IOException {
+            var reader = new StringReader("a\n".repeat(10000));
+
+            var actual = ISeq.lines(reader);
+
+            assertThat(actual.take(2)).containsExactly("a", "a");
+            assertThat(reader.read()).isEqualTo('a');
+        }
+
+        @Test
+        void decodesLinesFromChannel() throws IOException {
+            var text = "ascii\näöü\r\n€uro\n";
+            var file = Files.writeString(Files.createTempFile("test", ".tmp"), text, StandardCharsets.UTF_8);
+
+            try (var channel = FileChannel.open(file)) {
+                assertThat(ISeq.lines(channel, StandardCharsets.UTF_8)).containsExactly("ascii", "äöü", "€uro");
+            }
+            try (var channel = FileChannel.open(file)) {
+                assertThat(ISeq.lineViews(channel, StandardCharsets.UTF_8).map(CharSequence::toString)).containsExactly("ascii", "äöü", "€uro");
+            }
+        }
+
+        @Test
+        void returnsEmptySeqForEmptyInput() {
+            assertThat(ISeq.lines(new StringReader(""))).isEmpty();
+            assertThat(ISeq.lines(new StringReader("\n"))).containsExactly("");
+        }
+    }
+
+    @Nested
+    class Mapped {
+
+        private static final String TEXT = "ascii äöü €uro \uD83D\uDE00 emoji\n".repeat(100);
+
+        @Test
+        void returnsBytesOfFile() throws IOException {
+            var bytes = TEXT.getBytes(StandardCharsets.UTF_8);
+            var file = Files.write(Files.createTempFile("test", ".tmp"), bytes);
+
+            try (var channel = FileChannel.open(file)) {
+                var actual = ISeq.mapped(channel);
+
+                assertThat(actual.count()).isEqualTo(bytes.length);
+                assertThat(actual.take(3)).containsExactly((byte) 'a', (byte) 's', (byte) 'c');
+                assertThat(actual.nth(bytes.length - 1)).isEqualTo((byte) '\n');
+            }
+        }
+
+        @Test
+        void returnsCharsOfFile() throws IOException {
+            var file = Files.writeString(Files.createTempFile("test", ".tmp"), TEXT, StandardCharsets.UTF_8);
+
+            try (var channel = FileChannel.open(file)) {
+                assertThat(ISeq.mapped(channel, StandardCharsets.UTF_8).str()).isEqualTo(TEXT);
+            }
+        }
+
+        @Test
+        void decodesMultiByteCharactersAcrossWindows() throws IOException {
+            var file = Files.writeString(Files.createTempFile("test", ".tmp"), TEXT, StandardCharsets.UTF_8);
+
+            try (var channel = FileChannel.open(file)) {
+                assertThat(new MappedFile(channel, 4, 7).chars(StandardCharsets.UTF_8).str()).isEqualTo(TEXT);
+                assertThat(new MappedFile(channel, 3, 64).chars(StandardCharsets.UTF_8).str()).isEqualTo(TEXT);
+            }
+        }
+
+        @Test
+        void returnsBytesAcrossWindowsInChunksViewingTheWindows() throws IOException {
+            var file = Files.write(Files.createTempFile("test", ".tmp"), new byte[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9});
+
+            try (var channel = FileChannel.open(file)) {
+                var actual = LazySeq.unwrap(new MappedFile(channel, 3, 7).bytes());
+
+                assertThat(((ChunkedCons<Byte>) actual).chunkedFirst()).isExactlyInstanceOf(ByteChunk.class);
+                assertThat(((ChunkedCons<Byte>) actual).chunkedFirst().count()).isEqualTo(3);
+                assertThat(actual).containsExactly((byte) 0, (byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5, (byte) 6, (byte) 7, (byte) 8, (byte) 9);
+            }
+        }
+
+        @Test
+        void viewsLatin1CharsAcrossWindows() throws IOException {
+            var text = "latin-1 äöü ÿ";
+            var file = Files.writeString(Files.createTempFile("test", ".tmp"), text, StandardCharsets.ISO_8859_1);
+
+            try (var channel = FileChannel.open(file)) {
+                var actual = new MappedFile(channel, 4, 5).chars(StandardCharsets.ISO_8859_1);
+
+                assertThat(actual.str()).isEqualTo(text);
+                assertThat(actual.drop(11).str()).isEqualTo(" ÿ");
+            }
+        }
+
+        @Test
+        void writesLatin1CharsToWriter() throws IOException {
+            var text = "latin-1 äöü ÿ".repeat(2000);
+            var file = Files.writeString(Files.createTempFile("test", ".tmp"), text, StandardCharsets.ISO_8859_1);
+
+            try (var channel = FileChannel.open(file)) {
+                var writer = new StringWriter();
+
+                new MappedFile(channel, 32, 1000).chars(StandardCharsets.ISO_8859_1).writeTo(writer);
+
+                assertThat(writer.toString()).isEqualTo(text);
+            }
+        }
+
+        @Test
+        void replacesMalformedInputAtEndOfFile() throws IOException {
+            var file = Files.write(Files.createTempFile("test", ".tmp"), new byte[]{'a', (byte) 0xE2, (byte) 0x82});
+
+            try (var channel = FileChannel.open(file)) {
+                assertThat(new MappedFile(channel, 1, 2).chars(StandardCharsets.UTF_8).str()).isEqualTo("a\uFFFD");
+            }
+        }
+
+        @Test
+        void returnsEmptySeqForEmptyFile() throws IOException {
+            var file = Files.createTempFile("test", ".tmp");
+
+            try (var channel = FileChannel.open(file)) {
+                assertThat(ISeq.mapped(channel)).isEmpty();
+                assertThat(ISeq.mapped(channel, StandardCharsets.UTF_8)).isEmpty();
+                assertThat(ISeq.mapped(channel, StandardCharsets.ISO_8859_1)).isEmpty();
+            }
+        }
+    }
+
     @Nested
     class Iterate {
 
@@ -217,21 +510,21 @@ class ISeqTest {
         @Test
         void returnsSeqOfIntegersStartingWithZeroUntilEnd() {
             assertThat(ISeq.range(3))
-                    .isInstanceOf(LazySeq.class)
+                    .isInstanceOf(RangeSeq.class)
                     .containsExactly(0, 1, 2);
         }
 
         @Test
         void returnsSeqOfIntegersFromStartInclusiveUntilEndExclusive() {
-            assertThat(ISeq.range(1, 5)).isInstanceOf(LazySeq.class).containsExactly(1, 2, 3, 4);
-            assertThat(ISeq.range(-5, 5)).isInstanceOf(LazySeq.class).containsExactly(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4);
+            assertThat(ISeq.range(1, 5)).isInstanceOf(RangeSeq.class).containsExactly(1, 2, 3, 4);
+            assertThat(ISeq.range(-5, 5)).isInstanceOf(RangeSeq.class).containsExactly(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4);
         }
 
         @Test
         void returnsSeqOfIntegersFromStartInclusiveUntilEndExclusiveByStep() {
-            assertThat(ISeq.range(10, 25, 5)).isInstanceOf(LazySeq.class).containsExactly(10, 15, 20);
-            assertThat(ISeq.range(10, -25, -5)).isInstanceOf(LazySeq.class).containsExactly(10, 5, 0, -5, -10, -15, -20);
-            assertThat(ISeq.range(-10, 25, 5)).isInstanceOf(LazySeq.class).containsExactly(-10, -5, 0, 5, 10, 15, 20);
+            assertThat(ISeq.range(10, 25, 5)).isInstanceOf(RangeSeq.class).containsExactly(10, 15, 20);
+            assertThat(ISeq.range(10, -25, -5)).isInstanceOf(RangeSeq.class).containsExactly(10, 5, 0, -5, -10, -15, -20);
+            assertThat(ISeq.range(-10, 25, 5)).isInstanceOf(RangeSeq.class).containsExactly(-10, -5, 0, 5, 10, 15, 20);
         }
 
         @Test
@@ -248,6 +541,44 @@ class ISeqTest {
             assertThat(ISeq.range(1, 1, 1)).isEqualTo(Nil.empty());
             assertThat(ISeq.range(-1, -1, 1)).isEqualTo(Nil.empty());
         }
+
+        @Test
+        void returnsEmptySeqWhenStepPointsAwayFromEnd() {
+            assertThat(ISeq.range(10, 0, 1)).isEqualTo(Nil.empty());
+            assertThat(ISeq.range(0, 10, -1)).isEqualTo(Nil.empty());
+            assertThat(ISeq.range(10, 0, 0)).isEqualTo(Nil.empty());
+        }
+    }
+
+    @Nested
+    class Sequence {
+
+        @Test
+        void returnsLazySeqOfTransformedItemsInColl() {
+            var actual = ISeq.sequence(ITransducer.<String>of().map(x -> x.length()), List.of("a", "bb", "ccc"));
+
+            assertThat(actual)
+                    .isInstanceOf(LazySeq.class)
+                    .containsExactly(1, 2, 3);
+        }
+    }
+
+    @Nested
+    class Eduction {
+
+        @Test
+        void appliesTransducerOnEveryIteration() {
+            var calls = new ArrayList<Integer>();
+            var actual = ISeq.eduction(ITransducer.<Integer>of().map(x -> {
+                calls.add(x);
+                return x * 2;
+            }), List.of(1, 2, 3));
+
+            assertThat(calls).isEmpty();
+            assertThat(actual).containsExactly(2, 4, 6);
+            assertThat(actual).containsExactly(2, 4, 6);
+            assertThat(calls).containsExactly(1, 2, 3, 1, 2, 3);
+        }
     }
 
     @Nested
@@ -296,6 +627,20 @@ class ISeqTest {
                     .containsExactly("a", "b", "c", "d", "e", "f");
         }
 
+        @Test
+        void returnsCountOfConcatenatedCountedSeqsWithoutRealizing() {
+            var actual = ISeq.concat(ISeq.of(10, 11), ISeq.range(3), ISeq.seq(new int[]{5, 6}));
+
+            assertThat(actual.count()).isEqualTo(7);
+            assertThat(actual.isRealized()).isFalse();
+            assertThat(actual).containsExactly(10, 11, 0, 1, 2, 5, 6);
+        }
+
+        @Test
+        void returnsEmptySeqFromConcatenatingEmptyCountedSeqs() {
+            assertThat(ISeq.concat(ISeq.of(), ISeq.of(), ISeq.of())).isEqualTo(ISeq.of());
+        }
+
         @Test
         void returnsSeqFromConcatenatingMultipleStrings() {
             var actual = ISeq.concat("hello", " ", "world");
@@ -0,0 +1,91 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ITransducerTest {
+
+    private static <T, R> List<R> into(ITransducer<T, R> xform, Iterable<T> coll) {
+        BiFunction<List<R>, T, List<R>> rf = ATransducer.apply(xform, (acc, x) -> {
+            acc.add(x);
+            return acc;
+        });
+        List<R> acc = new ArrayList<>();
+        try {
+            for (var x : coll) {
+                acc = rf.apply(acc, x);
+            }
+        } catch (Reduced ex) {
+            return ex.value();
+        }
+        return acc;
+    }
+
+    @Test
+    void ofPassesOnAllItems() {
+        assertThat(into(ITransducer.of(), List.of(1, 2, 3))).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void mapPassesOnMappedItems() {
+        assertThat(into(ITransducer.<String>of().map(x -> x.length()), List.of("a", "bb", "ccc"))).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void filterPassesOnMatchingItems() {
+        assertThat(into(ITransducer.<Integer>of().filter(x -> x % 2 == 0), List.of(1, 2, 3, 4))).containsExactly(2, 4);
+    }
+
+    @Test
+    void mapcatPassesOnItemsOfMappedCollections() {
+        assertThat(into(ITransducer.<Integer>of().mapcat(x -> List.of(x, x)), List.of(1, 2))).containsExactly(1, 1, 2, 2);
+    }
+
+    @Test
+    void takePassesOnFirstNItemsAndTerminates() {
+        var xform = ITransducer.<Integer>of().take(2);
+
+        assertThat(into(xform, List.of(1, 2, 3))).containsExactly(1, 2);
+        assertThat(into(xform, List.of(4, 5, 6))).containsExactly(4, 5);
+        assertThat(into(ITransducer.<Integer>of().take(0), List.of(1, 2, 3))).isEmpty();
+    }
+
+    @Test
+    void takeTerminatesWithResultOfLastStep() {
+        BiFunction<Integer, Integer, Integer> rf = ATransducer.apply(ITransducer.<Integer>of().take(1), (acc, x) -> acc + x);
+
+        assertThatExceptionOfType(Reduced.class)
+                .isThrownBy(() -> rf.apply(1, 2))
+                .satisfies(ex -> assertThat(ex.<Integer>value()).isEqualTo(3));
+    }
+
+    @Test
+    void dropPassesOnAllButFirstNItems() {
+        assertThat(into(ITransducer.<Integer>of().drop(2), List.of(1, 2, 3, 4))).containsExactly(3, 4);
+    }
+
+    @Test
+    void takeWhilePassesOnItemsWhilePredIsTrue() {
+        assertThat(into(ITransducer.<Integer>of().takeWhile(x -> x < 3), List.of(1, 2, 3, 1))).containsExactly(1, 2);
+    }
+
+    @Test
+    void dropWhilePassesOnItemsStartingFromFirstForWhichPredIsFalse() {
+        assertThat(into(ITransducer.<Integer>of().dropWhile(x -> x < 3), List.of(1, 2, 3, 1))).containsExactly(3, 1);
+    }
+
+    @Test
+    void compAppliesThisFirstThenNext() {
+        var xform = ITransducer.<Integer>of()
+                .map(x -> x * 10)
+                .comp(ITransducer.<Integer>of().filter(x -> x > 10).map(x -> "x" + x));
+
+        assertThat(into(xform, List.of(1, 2, 3))).containsExactly("x20", "x30");
+    }
+}
@@ -0,0 +1,65 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class IntBufferChunkTest {
+
+    private static IntBufferChunk from(int... items) {
+        var buffer = ByteBuffer.allocateDirect(4 * items.length).asIntBuffer().put(items).flip();
+        return new IntBufferChunk(buffer);
+    }
+
+    @Test
+    void nth() {
+        var sut = from(-1, 0, 1, 2, 3, 4).dropFirst().dropLast(1);
+
+        assertThat(sut.nth(0)).isEqualTo(0);
+        assertThat(sut.intNth(3)).isEqualTo(3);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> sut.intNth(4))
+                .withMessage("Index 4 out of bounds for length 4");
+    }
+
+    @Test
+    void viewsRemainingItemsOfBuffer() {
+        IntBuffer buffer = ByteBuffer.allocateDirect(20).asIntBuffer().put(new int[]{0, 1, 2, 3, 4}).position(1);
+        var sut = new IntBufferChunk(buffer);
+        buffer.position(5);
+
+        assertThat(sut.count()).isEqualTo(4);
+        assertThat(sut.intNth(0)).isEqualTo(1);
+    }
+
+    @Test
+    void dropAndSlice() {
+        var sut = from(0, 1, 2, 3, 4).drop(1);
+
+        assertThat(sut.count()).isEqualTo(4);
+        assertThat(sut.slice(1, 3).toArray()).containsExactly(2, 3);
+    }
+
+    @Test
+    void reduce() {
+        assertThat(from(1, 2, 3, 4).dropFirst().reduce(0, Integer::sum)).isEqualTo(9);
+    }
+
+    @Test
+    void mapReturnsArrayChunk() {
+        var actual = from(1, 2, 3, 4).dropLast(1).map(x -> x * 10);
+
+        assertThat(actual).isExactlyInstanceOf(IntChunk.class);
+        assertThat(actual.toArray()).containsExactly(10, 20, 30);
+    }
+
+    @Test
+    void filter() {
+        assertThat(from(1, 2, 3, 4).dropFirst().filter(x -> x % 2 == 0).toArray()).containsExactly(2, 4);
+    }
+}
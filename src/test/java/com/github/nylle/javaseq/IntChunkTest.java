@@ -0,0 +1,70 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class IntChunkTest {
+
+    private static IntChunk from(int... items) {
+        return new IntChunk(items);
+    }
+
+    @Test
+    void nth() {
+        var sut = from(-1, 0, 1, 2, 3, 4).dropFirst().dropLast(1);
+
+        assertThat(sut.nth(0)).isEqualTo(0);
+        assertThat(sut.intNth(3)).isEqualTo(3);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> sut.intNth(4))
+                .withMessage("Index 4 out of bounds for length 4");
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> sut.nth(-1))
+                .withMessage("Index -1 out of bounds for length 4");
+    }
+
+    @Test
+    void drop() {
+        var actual = from(0, 1, 2, 3, 4).drop(2);
+
+        assertThat(actual.count()).isEqualTo(3);
+        assertThat(actual.intNth(0)).isEqualTo(2);
+    }
+
+    @Test
+    void slice() {
+        var actual = from(0, 1, 2, 3, 4).drop(1).slice(1, 3);
+
+        assertThat(actual.count()).isEqualTo(2);
+        assertThat(actual.intNth(0)).isEqualTo(2);
+        assertThat(actual.intNth(1)).isEqualTo(3);
+    }
+
+    @Test
+    void count() {
+        assertThat(from(-1, 0, 1, 2, 3, 4).count()).isEqualTo(6);
+        assertThat(from(-1, 0, 1, 2, 3, 4).dropFirst().dropLast(2).count()).isEqualTo(3);
+    }
+
+    @Test
+    void reduce() {
+        assertThat(from(1, 2, 3, 4).dropFirst().reduce(0, (a, b) -> a + b)).isEqualTo(9);
+    }
+
+    @Test
+    void map() {
+        assertThat(from(1, 2, 3, 4).dropLast(1).map(x -> x * 10).toArray()).containsExactly(10, 20, 30);
+    }
+
+    @Test
+    void filter() {
+        var actual = from(1, 2, 3, 4).dropFirst().filter(x -> x % 2 == 0);
+
+        assertThat(actual.count()).isEqualTo(2);
+        assertThat(actual.toArray()).containsExactly(2, 4);
+    }
+}
@@ -0,0 +1,209 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalInt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class IntSeqTest {
+
+    private static IntSeq sutFrom(int... items) {
+        return new IntSeq(new IntChunk(items));
+    }
+
+    @Test
+    void firstReturnsFirstItem() {
+        assertThat(sutFrom(1, 2, 3).first()).isEqualTo(1);
+        assertThat(sutFrom().first()).isNull();
+    }
+
+    @Test
+    void restReturnsSeqWithItemsExceptFirst() {
+        var actual = sutFrom(1, 2, 3).rest();
+
+        assertThat(actual)
+                .isExactlyInstanceOf(IntSeq.class)
+                .containsExactly(2, 3);
+        assertThat(actual.rest().rest()).isEmpty();
+    }
+
+    @Test
+    void isEmptyReturnsTrueOnlyForEmptySeq() {
+        assertThat(sutFrom().isEmpty()).isTrue();
+        assertThat(sutFrom(1).isEmpty()).isFalse();
+        assertThat(sutFrom(1).rest().isEmpty()).isTrue();
+    }
+
+    @Test
+    void isRealizedReturnsTrue() {
+        assertThat(sutFrom(1, 2).isRealized()).isTrue();
+    }
+
+    @Nested
+    class Take {
+
+        @Test
+        void returnsEmptySeqWithZeroOrNegativeItems() {
+            assertThat(sutFrom(1, 2, 3).take(0)).isEmpty();
+            assertThat(sutFrom(1, 2, 3).take(-1)).isEmpty();
+        }
+
+        @Test
+        void returnsFirstNItems() {
+            assertThat(sutFrom(1, 2, 3).take(2))
+                    .isExactlyInstanceOf(IntSeq.class)
+                    .containsExactly(1, 2);
+            assertThat(sutFrom(1, 2, 3).rest().take(1)).containsExactly(2);
+        }
+
+        @Test
+        void returnsEntireSeqWhenTakingMoreThanPresent() {
+            var sut = sutFrom(1, 2, 3);
+
+            assertThat(sut.take(4)).isSameAs(sut);
+        }
+    }
+
+    @Nested
+    class Drop {
+
+        @Test
+        void returnsUnchangedSeqWithZeroOrNegativeItemsToDrop() {
+            var sut = sutFrom(1, 2, 3);
+
+            assertThat(sut.drop(0)).isSameAs(sut);
+            assertThat(sut.drop(-1)).isSameAs(sut);
+        }
+
+        @Test
+        void returnsSeqOfAllButTheFirstNItems() {
+            assertThat(sutFrom(1, 2, 3).drop(2))
+                    .isExactlyInstanceOf(IntSeq.class)
+                    .containsExactly(3);
+            assertThat(sutFrom(1, 2, 3).take(2).drop(1)).containsExactly(2);
+        }
+
+        @Test
+        void returnsEmptySeqWhenDroppingAllItems() {
+            assertThat(sutFrom(1, 2, 3).drop(3)).isEmpty();
+        }
+    }
+
+    @Test
+    void nthReturnsItemAtIndex() {
+        var sut = sutFrom(1, 2, 3);
+
+        assertThat(sut.nth(1)).isEqualTo(2);
+        assertThat(sut.nth(3, 0)).isEqualTo(0);
+        assertThat(sut.nthInt(2)).isEqualTo(3);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> sut.nthInt(3))
+                .withMessage("Index 3 out of bounds for length 3");
+    }
+
+    @Test
+    void countReturnsNumberOfItems() {
+        assertThat(sutFrom().count()).isEqualTo(0);
+        assertThat(sutFrom(1, 2, 3).count()).isEqualTo(3);
+        assertThat(sutFrom(1, 2, 3).rest().count()).isEqualTo(2);
+    }
+
+    @Test
+    void reduceReturnsResultOfBoxedReduction() {
+        assertThat(sutFrom(1, 2, 3).reduce(0, (a, b) -> a + b)).isEqualTo(6);
+    }
+
+    @Test
+    void someAndEveryTestAllItems() {
+        var sut = sutFrom(1, 2, 3);
+
+        assertThat(sut.some(x -> x > 2)).isTrue();
+        assertThat(sut.some(x -> x > 3)).isFalse();
+        assertThat(sut.every(x -> x > 0)).isTrue();
+        assertThat(sut.every(x -> x > 1)).isFalse();
+    }
+
+    @Nested
+    class MapInt {
+
+        @Test
+        void returnsSeqOfMappedItems() {
+            assertThat(sutFrom(1, 2, 3).mapInt(x -> x * 2))
+                    .isExactlyInstanceOf(IntSeq.class)
+                    .containsExactly(2, 4, 6);
+        }
+
+        @Test
+        void returnsEmptySeqForEmptySeq() {
+            assertThat(sutFrom().mapInt(x -> x * 2)).isEmpty();
+        }
+    }
+
+    @Nested
+    class FilterInt {
+
+        @Test
+        void returnsMatchingItems() {
+            assertThat(sutFrom(1, 2, 3, 4).filterInt(x -> x % 2 == 0))
+                    .isExactlyInstanceOf(IntSeq.class)
+                    .containsExactly(2, 4);
+        }
+
+        @Test
+        void returnsEmptySeqWhenNoItemsMatch() {
+            assertThat(sutFrom(1, 2, 3).filterInt(x -> x > 3)).isEmpty();
+        }
+    }
+
+    @Test
+    void reduceIntReturnsResultOfReduction() {
+        assertThat(sutFrom(1, 2, 3).reduceInt(1, (a, b) -> a * b)).isEqualTo(6);
+        assertThat(sutFrom().reduceInt(1, (a, b) -> a * b)).isEqualTo(1);
+    }
+
+    @Test
+    void sumReturnsSumOfAllItems() {
+        assertThat(sutFrom(1, 2, 3).sum()).isEqualTo(6);
+        assertThat(sutFrom().sum()).isEqualTo(0);
+    }
+
+    @Test
+    void minAndMaxReturnLeastAndGreatestItem() {
+        var sut = sutFrom(2, 1, 3);
+
+        assertThat(sut.min()).isEqualTo(OptionalInt.of(1));
+        assertThat(sut.max()).isEqualTo(OptionalInt.of(3));
+        assertThat(sutFrom().min()).isEqualTo(OptionalInt.empty());
+        assertThat(sutFrom().max()).isEqualTo(OptionalInt.empty());
+    }
+
+    @Test
+    void mapToObjReturnsSeqOfMappedItems() {
+        assertThat(sutFrom(1, 2).mapToObj(x -> "x" + x))
+                .isExactlyInstanceOf(ArraySeq.class)
+                .containsExactly("x" + 1, "x" + 2);
+        assertThat(sutFrom().mapToObj(x -> "x" + x)).isEmpty();
+    }
+
+    @Test
+    void toIntArrayReturnsCopyOfItems() {
+        var array = new int[] {1, 2, 3};
+        var sut = sutFrom(array).rest();
+
+        var actual = sut.toIntArray();
+
+        assertThat(actual).containsExactly(2, 3);
+        actual[0] = 0;
+        assertThat(sut.first()).isEqualTo(2);
+    }
+
+    @Test
+    void isEqualToSeqOfBoxedItems() {
+        assertThat(sutFrom(1, 2, 3)).isEqualTo(ISeq.of(1, 2, 3));
+        assertThat(sutFrom()).isEqualTo(ISeq.of());
+        assertThat(ISeq.of()).isEqualTo(sutFrom());
+    }
+}
@@ -5,13 +5,24 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -44,6 +55,139 @@ class LazySeqTest {
         return Nil.empty();
     }
 
+    @Nested
+    class Realize {
+
+        private static boolean collected(WeakReference<?> ref) {
+            for (int i = 0; i < 100 && ref.get() != null; i++) {
+                System.gc();
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return ref.get() == null;
+        }
+
+        @Test
+        void callsSupplierOnlyOnceWhenRealizedConcurrently() throws Exception {
+            var calls = new AtomicInteger();
+            var sut = new LazySeq<>(() -> {
+                calls.incrementAndGet();
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return ISeq.of(1, 2, 3);
+            });
+            var executor = Executors.newFixedThreadPool(8);
+
+            try {
+                var start = new CountDownLatch(1);
+                var results = new ArrayList<Future<ISeq<Integer>>>();
+                for (int i = 0; i < 8; i++) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        return sut.seq();
+                    }));
+                }
+                start.countDown();
+
+                for (var result : results) {
+                    assertThat(result.get(5, TimeUnit.SECONDS)).containsExactly(1, 2, 3);
+                }
+                assertThat(calls).hasValue(1);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        void wakesUpWaitingThreadToRetryAfterSupplierThrows() throws Exception {
+            var calls = new AtomicInteger();
+            var started = new CountDownLatch(1);
+            var sut = new LazySeq<>(() -> {
+                if (calls.incrementAndGet() == 1) {
+                    started.countDown();
+                    try {
+                        Thread.sleep(100);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    throw new IllegalStateException("failed");
+                }
+                return ISeq.of(1, 2, 3);
+            });
+            var executor = Executors.newSingleThreadExecutor();
+
+            try {
+                var failed = executor.submit(sut::seq);
+                started.await();
+
+                assertThat(sut.seq()).containsExactly(1, 2, 3);
+                assertThatExceptionOfType(ExecutionException.class)
+                        .isThrownBy(() -> failed.get(5, TimeUnit.SECONDS))
+                        .withCauseInstanceOf(IllegalStateException.class);
+                assertThat(calls).hasValue(2);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        void canBeRetriedAfterSupplierThrows() {
+            var calls = new AtomicInteger();
+            var sut = new LazySeq<>(() -> {
+                if (calls.incrementAndGet() == 1) {
+                    throw new IllegalStateException("failed");
+                }
+                return ISeq.of(1, 2, 3);
+            });
+
+            assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> sut.first()).withMessage("failed");
+            assertThat(sut.isRealized()).isFalse();
+            assertThat(sut).containsExactly(1, 2, 3);
+            assertThat(sut.isRealized()).isTrue();
+        }
+
+        @Test
+        void releasesSupplierAfterRealization() {
+            var items = ISeq.of(1, 2, 3);
+            Supplier<ISeq<Integer>> fn = () -> items;
+            var supplier = new WeakReference<>(fn);
+            var sut = new LazySeq<>(fn);
+            fn = null;
+
+            sut.seq();
+
+            assertThat(collected(supplier)).isTrue();
+            assertThat(sut).containsExactly(1, 2, 3);
+        }
+
+        @Test
+        void realizedPipelineDoesNotRetainUpstream() {
+            var source = ISeq.iterate(0, x -> x + 1);
+            var upstream = new WeakReference<>(source);
+            var sut = source.map(x -> x * 2).filter(x -> x % 3 == 0).drop(1000);
+            source = null;
+
+            assertThat(sut.first()).isEqualTo(6000);
+            assertThat(collected(upstream)).isTrue();
+        }
+
+        @Test
+        void throwsWhenSupplierRealizesItsOwnSeq() {
+            var sut = new AtomicReference<ISeq<Integer>>();
+            sut.set(new LazySeq<>(() -> ISeq.cons(1, sut.get().rest())));
+
+            assertThatExceptionOfType(IllegalStateException.class)
+                    .isThrownBy(() -> sut.get().first())
+                    .withMessage("seq is already being realized by this thread");
+        }
+    }
+
     @Nested
     class CanBeEmpty {
 
@@ -1746,6 +1890,37 @@ class LazySeqTest {
         assertThat(sut.stream().limit(3)).containsExactly(0, 1, 2);
     }
 
+    @Test
+    void streamDoesNotRealizeSeq() {
+        var realized = new AtomicInteger();
+        var sut = ISeq.lazySeq(() -> {
+            realized.incrementAndGet();
+            return ISeq.of(1, 2, 3);
+        });
+        var mapped = ISeq.iterate(0, x -> x + 1).map(x -> {
+            realized.incrementAndGet();
+            return x;
+        });
+
+        var actual = sut.stream().map(x -> x * 2);
+        mapped.stream().filter(x -> x > 0);
+
+        assertThat(realized).hasValue(0);
+        assertThat(actual).containsExactly(2, 4, 6);
+        assertThat(realized).hasValue(1);
+    }
+
+    @Test
+    void spliteratorKeepsCharacteristicsAfterTraversalStarts() {
+        var sut = ISeq.lazySeq(() -> ISeq.of(1, 2, 3)).spliterator();
+        var before = sut.characteristics();
+
+        sut.tryAdvance(x -> {});
+
+        assertThat(sut.characteristics()).isEqualTo(before);
+        assertThat(sut.estimateSize()).isEqualTo(2);
+    }
+
     @Test
     void parallelStreamReturnsStream() {
         var sut = recursive(0, x -> x + 1);
@@ -1877,4 +2052,25 @@ class LazySeqTest {
 
         verify(nested).lastIndexOf(0);
     }
-}
\ No newline at end of file
+
+    @Test
+    void spliteratorDoesNotRealizeSeq() {
+        var sut = new LazySeq<>(() -> ISeq.of(1, 2, 3));
+
+        var actual = sut.spliterator();
+
+        assertThat(sut.isRealized()).isFalse();
+        assertThat(StreamSupport.stream(actual, false)).containsExactly(1, 2, 3);
+        assertThat(sut.isRealized()).isTrue();
+    }
+
+    @Test
+    void spliteratorDefersToSpliteratorOfNestedSeq() {
+        var sut = new LazySeq<>(() -> ISeq.of(1, 2, 3, 4));
+
+        var actual = sut.spliterator();
+
+        assertThat(StreamSupport.stream(actual.trySplit(), false)).containsExactly(1, 2);
+        assertThat(actual.estimateSize()).isEqualTo(2);
+    }
+}
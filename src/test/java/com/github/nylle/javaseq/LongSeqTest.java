@@ -0,0 +1,118 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class LongSeqTest {
+
+    private static LongSeq sutFrom(long... items) {
+        return new LongSeq(new LongChunk(items));
+    }
+
+    @Test
+    void restTakeAndDropReturnLongSeqs() {
+        var sut = sutFrom(1L, 2L, 3L);
+
+        assertThat(sut.rest()).isExactlyInstanceOf(LongSeq.class).containsExactly(2L, 3L);
+        assertThat(sut.take(2)).isExactlyInstanceOf(LongSeq.class).containsExactly(1L, 2L);
+        assertThat(sut.drop(2)).isExactlyInstanceOf(LongSeq.class).containsExactly(3L);
+    }
+
+    @Test
+    void nthReturnsItemAtIndex() {
+        var sut = sutFrom(1L, 2L, 3L);
+
+        assertThat(sut.nth(1)).isEqualTo(2L);
+        assertThat(sut.nth(3, 0L)).isEqualTo(0L);
+        assertThat(sut.nthLong(2)).isEqualTo(3L);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> sut.nthLong(3))
+                .withMessage("Index 3 out of bounds for length 3");
+    }
+
+    @Nested
+    class MapLong {
+
+        @Test
+        void returnsSeqOfMappedItems() {
+            assertThat(sutFrom(1L, 2L, 3L).mapLong(x -> x * 2))
+                    .isExactlyInstanceOf(LongSeq.class)
+                    .containsExactly(2L, 4L, 6L);
+        }
+
+        @Test
+        void returnsEmptySeqForEmptySeq() {
+            assertThat(sutFrom().mapLong(x -> x * 2)).isEmpty();
+        }
+    }
+
+    @Nested
+    class FilterLong {
+
+        @Test
+        void returnsMatchingItems() {
+            assertThat(sutFrom(1L, 2L, 3L, 4L).filterLong(x -> x % 2 == 0))
+                    .isExactlyInstanceOf(LongSeq.class)
+                    .containsExactly(2L, 4L);
+        }
+
+        @Test
+        void returnsEmptySeqWhenNoItemsMatch() {
+            assertThat(sutFrom(1L, 2L, 3L).filterLong(x -> x > 3L)).isEmpty();
+        }
+    }
+
+    @Test
+    void reduceLongReturnsResultOfReduction() {
+        assertThat(sutFrom(1L, 2L, 3L).reduceLong(1L, (a, b) -> a * b)).isEqualTo(6L);
+        assertThat(sutFrom().reduceLong(1L, (a, b) -> a * b)).isEqualTo(1L);
+    }
+
+    @Test
+    void sumReturnsSumOfAllItems() {
+        assertThat(sutFrom(1L, 2L, 3L).sum()).isEqualTo(6L);
+        assertThat(sutFrom().sum()).isEqualTo(0L);
+    }
+
+    @Test
+    void minAndMaxReturnLeastAndGreatestItem() {
+        var sut = sutFrom(2L, 1L, 3L);
+
+        assertThat(sut.min()).isEqualTo(OptionalLong.of(1L));
+        assertThat(sut.max()).isEqualTo(OptionalLong.of(3L));
+        assertThat(sutFrom().min()).isEqualTo(OptionalLong.empty());
+        assertThat(sutFrom().max()).isEqualTo(OptionalLong.empty());
+    }
+
+    @Test
+    void mapToObjReturnsSeqOfMappedItems() {
+        assertThat(sutFrom(1L, 2L).mapToObj(x -> "x" + x))
+                .isExactlyInstanceOf(ArraySeq.class)
+                .containsExactly("x" + 1L, "x" + 2L);
+        assertThat(sutFrom().mapToObj(x -> "x" + x)).isEmpty();
+    }
+
+    @Test
+    void toLongArrayReturnsCopyOfItems() {
+        var array = new long[] {1L, 2L, 3L};
+        var sut = sutFrom(array).rest();
+
+        var actual = sut.toLongArray();
+
+        assertThat(actual).containsExactly(2L, 3L);
+        actual[0] = 0L;
+        assertThat(sut.first()).isEqualTo(2L);
+    }
+
+    @Test
+    void isEqualToSeqOfBoxedItems() {
+        assertThat(sutFrom(1L, 2L, 3L)).isEqualTo(ISeq.of(1L, 2L, 3L));
+        assertThat(sutFrom()).isEqualTo(ISeq.of());
+        assertThat(ISeq.of()).isEqualTo(sutFrom());
+    }
+}
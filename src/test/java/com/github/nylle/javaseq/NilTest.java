@@ -361,6 +361,14 @@ public class NilTest {
                 .isEmpty();
     }
 
+    @Test
+    void isEqualToAnyEmptySeq() {
+        assertThat(Nil.empty()).isEqualTo(IntSeq.empty());
+        assertThat(Nil.empty()).isEqualTo(ISeq.lazySeq(ISeq::of));
+        assertThat(Nil.empty()).isNotEqualTo(ISeq.of(1));
+        assertThat(Nil.empty()).isNotEqualTo(List.of());
+    }
+
     @Test
     void toStringReturnsEmptyBrackets() {
         assertThat(Nil.empty()).hasToString("[]");
@@ -0,0 +1,98 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PersistentHashSetTest {
+
+    private record Colliding(int value) {
+        @Override
+        public int hashCode() {
+            return value % 2;
+        }
+    }
+
+    @Test
+    void emptyContainsNoItems() {
+        var sut = PersistentHashSet.empty();
+
+        assertThat(sut.count()).isZero();
+        assertThat(sut.contains(1)).isFalse();
+        assertThat(sut.contains(null)).isFalse();
+    }
+
+    @Test
+    void conjReturnsSetWithAddedItem() {
+        var sut = PersistentHashSet.<Integer>empty().conj(1).conj(2);
+
+        assertThat(sut.count()).isEqualTo(2);
+        assertThat(sut.contains(1)).isTrue();
+        assertThat(sut.contains(2)).isTrue();
+        assertThat(sut.contains(3)).isFalse();
+    }
+
+    @Test
+    void conjReturnsSameSetIfItemIsAlreadyContained() {
+        var sut = PersistentHashSet.<String>empty().conj("a").conj("b");
+
+        assertThat(sut.conj("a")).isSameAs(sut);
+        assertThat(sut.conj(new String("b"))).isSameAs(sut);
+    }
+
+    @Test
+    void conjDoesNotModifyOriginalSet() {
+        var original = PersistentHashSet.<Integer>empty().conj(1);
+
+        var actual = original.conj(2);
+
+        assertThat(original.count()).isEqualTo(1);
+        assertThat(original.contains(2)).isFalse();
+        assertThat(actual.contains(1)).isTrue();
+        assertThat(actual.contains(2)).isTrue();
+    }
+
+    @Test
+    void supportsNull() {
+        var sut = PersistentHashSet.<Integer>empty().conj(null).conj(0);
+
+        assertThat(sut.count()).isEqualTo(2);
+        assertThat(sut.contains(null)).isTrue();
+        assertThat(sut.conj(null)).isSameAs(sut);
+    }
+
+    @Test
+    void supportsItemsWithEqualHashCodes() {
+        var sut = PersistentHashSet.<Colliding>empty();
+        for (int i = 0; i < 10; i++) {
+            sut = sut.conj(new Colliding(i));
+        }
+
+        assertThat(sut.count()).isEqualTo(10);
+        assertThat(sut.conj(new Colliding(4))).isSameAs(sut);
+        for (int i = 0; i < 10; i++) {
+            assertThat(sut.contains(new Colliding(i))).isTrue();
+        }
+        assertThat(sut.contains(new Colliding(10))).isFalse();
+    }
+
+    @Test
+    void containsAllAddedItems() {
+        var expected = new HashSet<Long>();
+        var sut = PersistentHashSet.<Long>empty();
+        var x = 17L;
+        for (int i = 0; i < 100000; i++) {
+            x = x * 6364136223846793005L + 1442695040888963407L;
+            expected.add(x >>> 40);
+            sut = sut.conj(x >>> 40);
+        }
+
+        assertThat(sut.count()).isEqualTo(expected.size());
+        for (var item : expected) {
+            assertThat(sut.contains(item)).isTrue();
+        }
+        assertThat(sut.contains(-1L)).isFalse();
+    }
+}
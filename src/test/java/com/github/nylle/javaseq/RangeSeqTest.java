@@ -0,0 +1,195 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class RangeSeqTest {
+
+    @Nested
+    class Construct {
+
+        @Test
+        void withZeroStepThrows() {
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> new RangeSeq(0, 0, 1))
+                    .withMessage("step must not be 0");
+        }
+
+        @Test
+        void withoutItemsThrows() {
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> new RangeSeq(0, 1, 0))
+                    .withMessage("count 0 must be greater than 0");
+        }
+    }
+
+    @Test
+    void firstReturnsStart() {
+        assertThat(new RangeSeq(5, 2, 3).first()).isEqualTo(5);
+    }
+
+    @Test
+    void restReturnsSeqWithItemsExceptFirst() {
+        var actual = new RangeSeq(5, 2, 3).rest();
+
+        assertThat(actual)
+                .isExactlyInstanceOf(RangeSeq.class)
+                .containsExactly(7, 9);
+        assertThat(actual.rest().rest()).isEqualTo(Nil.empty());
+    }
+
+    @Test
+    void isRealizedReturnsTrue() {
+        assertThat(new RangeSeq(0, 1, 10).isRealized()).isTrue();
+    }
+
+    @Test
+    void countIsComputedFromBounds() {
+        assertThat(ISeq.range(0, 10, 3).count()).isEqualTo(4);
+        assertThat(ISeq.range(0, 9, 3).count()).isEqualTo(3);
+        assertThat(ISeq.range(10, -10, -7).count()).isEqualTo(3);
+        assertThat(ISeq.range(Integer.MIN_VALUE, Integer.MAX_VALUE).count()).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    void doesNotOverflowAtIntegerBounds() {
+        assertThat(ISeq.range(Integer.MAX_VALUE - 2, Integer.MAX_VALUE))
+                .containsExactly(Integer.MAX_VALUE - 2, Integer.MAX_VALUE - 1);
+        assertThat(ISeq.range(Integer.MIN_VALUE + 2, Integer.MIN_VALUE, -1))
+                .containsExactly(Integer.MIN_VALUE + 2, Integer.MIN_VALUE + 1);
+    }
+
+    @Nested
+    class Take {
+
+        @Test
+        void returnsRangeWithFirstNItems() {
+            assertThat(ISeq.range(0, 100, 5).take(3))
+                    .isExactlyInstanceOf(RangeSeq.class)
+                    .containsExactly(0, 5, 10);
+        }
+
+        @Test
+        void returnsNilWithZeroOrNegativeItems() {
+            assertThat(ISeq.range(10).take(0)).isEqualTo(Nil.empty());
+            assertThat(ISeq.range(10).take(-1)).isEqualTo(Nil.empty());
+        }
+    }
+
+    @Nested
+    class Drop {
+
+        @Test
+        void returnsRangeWithoutFirstNItems() {
+            assertThat(ISeq.range(0, 100, 5).drop(17))
+                    .isExactlyInstanceOf(RangeSeq.class)
+                    .containsExactly(85, 90, 95);
+        }
+
+        @Test
+        void returnsNilWhenDroppingAllItems() {
+            assertThat(ISeq.range(10).drop(10)).isEqualTo(Nil.empty());
+        }
+    }
+
+    @Test
+    void nthReturnsItemAtIndex() {
+        var sut = ISeq.range(3, 1000000, 3);
+
+        assertThat(sut.nth(0)).isEqualTo(3);
+        assertThat(sut.nth(99999)).isEqualTo(300000);
+        assertThat(sut.nth(333333, -1)).isEqualTo(-1);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> sut.nth(-1));
+    }
+
+    @Test
+    void mapReturnsChunkedSeq() {
+        var actual = ISeq.range(100).map(x -> x * 2);
+
+        assertThat(actual.rest()).isExactlyInstanceOf(ChunkedCons.class);
+        assertThat(actual.count()).isEqualTo(100);
+        assertThat(actual.nth(99)).isEqualTo(198);
+    }
+
+    @Test
+    void filterReturnsMatchingItems() {
+        assertThat(ISeq.range(100).filter(x -> x % 33 == 0)).containsExactly(0, 33, 66, 99);
+    }
+
+    @Test
+    void takeWhileReturnsItemsWhilePredIsTrue() {
+        assertThat(ISeq.range(100).takeWhile(x -> x < 40).count()).isEqualTo(40);
+        assertThat(ISeq.range(100).takeWhile(x -> x < 0)).isEmpty();
+    }
+
+    @Test
+    void dropWhileReturnsItemsFromFirstForWhichPredIsFalse() {
+        assertThat(ISeq.range(100).dropWhile(x -> x < 97)).containsExactly(97, 98, 99);
+        assertThat(ISeq.range(100).dropWhile(x -> x < 100)).isEmpty();
+    }
+
+    @Test
+    void reduceReturnsResultOfReduction() {
+        assertThat(ISeq.range(1, 101).reduce(0, (a, b) -> a + b)).isEqualTo(5050);
+    }
+
+    @Test
+    void foldReturnsResultOfParallelReduction() {
+        assertThat(ISeq.range(1, 100001).fold(100, () -> 0L, Long::sum, (acc, x) -> acc + x)).isEqualTo(5000050000L);
+    }
+
+    @Test
+    void someAndEveryTestAllItems() {
+        assertThat(ISeq.range(10).some(x -> x == 9)).isTrue();
+        assertThat(ISeq.range(10).some(x -> x == 10)).isFalse();
+        assertThat(ISeq.range(10).every(x -> x < 10)).isTrue();
+        assertThat(ISeq.range(10).every(x -> x < 9)).isFalse();
+    }
+
+    @Test
+    void mapToIntReturnsIntSeq() {
+        assertThat(ISeq.range(5).mapToInt(x -> x * x))
+                .isExactlyInstanceOf(IntSeq.class)
+                .containsExactly(0, 1, 4, 9, 16);
+    }
+
+    @Test
+    void isEqualToSeqOfSameItems() {
+        assertThat(ISeq.range(3)).isEqualTo(ISeq.of(0, 1, 2));
+        assertThat(ISeq.of(0, 1, 2)).isEqualTo(ISeq.range(3));
+    }
+
+    @Test
+    void spliteratorReportsExactSizeAndSplitsInHalves() {
+        var sut = ISeq.range(0, 10, 2).spliterator();
+
+        var prefix = sut.trySplit();
+
+        assertThat(prefix.getExactSizeIfKnown()).isEqualTo(2);
+        assertThat(sut.getExactSizeIfKnown()).isEqualTo(3);
+        assertThat(StreamSupport.stream(prefix, false)).containsExactly(0, 2);
+        assertThat(StreamSupport.stream(sut, false)).containsExactly(4, 6, 8);
+    }
+
+    @Test
+    void iteratesRangesLongerThanIntegerMaxValueByChunk() {
+        var sut = ISeq.range(Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+        assertThat(sut.iterator()).isExactlyInstanceOf(SeqIterator.class);
+        assertThat(sut.spliterator()).isExactlyInstanceOf(SeqSpliterator.class);
+        assertThat(sut.stream().limit(3)).containsExactly(Integer.MIN_VALUE, Integer.MIN_VALUE + 1, Integer.MIN_VALUE + 2);
+        assertThat(ISeq.range(Integer.MAX_VALUE).iterator()).isExactlyInstanceOf(IndexedIterator.class);
+    }
+
+    @Test
+    void parallelStreamReturnsAllItemsInOrder() {
+        assertThat(ISeq.range(100000).parallelStream().mapToLong(x -> x).sum()).isEqualTo(4999950000L);
+        assertThat(ISeq.range(100000).parallelStream().toList()).isEqualTo(ISeq.range(100000));
+    }
+}
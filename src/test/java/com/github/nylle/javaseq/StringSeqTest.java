@@ -4,11 +4,15 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.io.StringWriter;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Spliterator;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -95,6 +99,47 @@ class StringSeqTest {
             assertThat(sutFromString("foobarbaz").filter(x -> x > 'f')).containsExactly('o', 'o', 'r', 'z');
             assertThat(sutFromString("xfoobarbaz").rest().filter(x -> x > 'f')).containsExactly('o', 'o', 'r', 'z');
         }
+
+        @Test
+        void returnsChunkedSeq() {
+            var actual = sutFromString("x".repeat(40) + "abc").filter(x -> x != 'x');
+
+            assertThat(((LazySeq<Character>) actual).seq()).isExactlyInstanceOf(ChunkedCons.class);
+            assertThat(actual).containsExactly('a', 'b', 'c');
+        }
+    }
+
+    @Nested
+    class ListMethods {
+
+        @Test
+        void subListReturnsSliceOfTheString() {
+            var actual = sutFromString("xfoobar").rest().subList(1, 4);
+
+            assertThat(actual).isExactlyInstanceOf(StringSeq.class).containsExactly('o', 'o', 'b');
+            assertThat(sutFromString("foo").subList(2, 2)).isEmpty();
+        }
+
+        @Test
+        void indexOfReturnsIndexOfCharacter() {
+            var sut = sutFromString("xfoobar").rest();
+
+            assertThat(sut.indexOf('o')).isEqualTo(1);
+            assertThat(sut.lastIndexOf('o')).isEqualTo(2);
+            assertThat(sut.indexOf('x')).isEqualTo(-1);
+            assertThat(sut.indexOf("o")).isEqualTo(-1);
+            assertThat(sut.contains('r')).isTrue();
+            assertThat(sut.contains(null)).isFalse();
+        }
+    }
+
+    @Nested
+    class Keep {
+
+        @Test
+        void returnsNonNullResults() {
+            assertThat(sutFromString("a1b2").keep(x -> Character.isDigit(x) ? x - '0' : null)).containsExactly(1, 2);
+        }
     }
 
     @Nested
@@ -439,6 +484,14 @@ class StringSeqTest {
     @Nested
     class Partition {
 
+        @Test
+        void returnsSlicesOfTheString() {
+            var actual = sutFromString("foobar").partition(3);
+
+            assertThat(actual).containsExactly(ISeq.of('f', 'o', 'o'), ISeq.of('b', 'a', 'r'));
+            assertThat(actual).allSatisfy(x -> assertThat(x).isExactlyInstanceOf(StringSeq.class));
+        }
+
         @Test
         void returnsEmptySeqForNegativeSizeN() {
             var sut = sutFromString("foo");
@@ -750,6 +803,49 @@ class StringSeqTest {
         assertThat(sut.reverse()).containsExactly('e', 'd', 'c', 'b', 'a');
     }
 
+    @Nested
+    class Fold {
+
+        @Test
+        void returnsResultOfReducingAndCombiningPartitionsInOrder() {
+            var sut = ISeq.seq("abcdefghijklmnopqrstuvwxyz".repeat(100));
+
+            assertThat(sut.fold(7, StringBuilder::new, StringBuilder::append, StringBuilder::append).toString())
+                    .isEqualTo("abcdefghijklmnopqrstuvwxyz".repeat(100));
+        }
+    }
+
+    @Nested
+    class SpliteratorTest {
+
+        @Test
+        void reportsExactSizeAndCharacteristics() {
+            var actual = sutFromString("abcde").drop(2).spliterator();
+
+            assertThat(actual.getExactSizeIfKnown()).isEqualTo(3);
+            assertThat(actual.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED)).isTrue();
+            assertThat(actual.hasCharacteristics(Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL)).isTrue();
+        }
+
+        @Test
+        void splitsInHalves() {
+            var sut = sutFromString("abcde").spliterator();
+
+            var prefix = sut.trySplit();
+
+            assertThat(prefix.getExactSizeIfKnown()).isEqualTo(2);
+            assertThat(StreamSupport.stream(prefix, false)).containsExactly('a', 'b');
+            assertThat(StreamSupport.stream(sut, false)).containsExactly('c', 'd', 'e');
+        }
+
+        @Test
+        void parallelStreamReturnsAllItemsInOrder() {
+            var str = "abcdefghijklmnopqrstuvwxyz".repeat(100);
+
+            assertThat(sutFromString(str).parallelStream().map(String::valueOf).collect(Collectors.joining())).isEqualTo(str);
+        }
+    }
+
     @Nested
     class Some {
 
@@ -920,6 +1016,30 @@ class StringSeqTest {
     @Test
     void strReturnsStringRepresentationOfSeq() {
         assertThat(sutFromString("foobar").str()).isEqualTo("foobar");
+        assertThat(new StringSeq("foobar", 1, 4).str()).isEqualTo("oob");
+    }
+
+    @Test
+    void writeToWritesCharactersInRange() {
+        var writer = new StringWriter();
+
+        new StringSeq("foobar", 1, 4).writeTo(writer);
+
+        assertThat(writer.toString()).isEqualTo("oob");
+    }
+
+    @Test
+    void estimatesLengthOfJoinedStringWithoutOverflow() {
+        var sut = new StringSeq("x".repeat(100_000), 0, 100_000);
+
+        assertThat(sut.estimateLength("x".repeat(100_000))).isEqualTo(100_000L + 99_999L * 100_000);
+    }
+
+    @Test
+    void joinReturnsCharactersSeparatedAndEnclosed() {
+        assertThat(sutFromString("abc").join(", ", "[", "]")).isEqualTo("[a, b, c]");
+        assertThat(new StringSeq("foobar", 2, 5).join("", "<", ">")).isEqualTo("<oba>");
+        assertThat(sutFromString("a").join(", ", "", "")).isEqualTo("a");
     }
 
     @Nested
@@ -153,7 +153,7 @@ class UtilTest {
             assertThat(charactersWritten).isEqualTo(sut.count());
         }
 
-        var actual = Files.readAllLines(tmpFile.toPath(), StandardCharsets.UTF_8);
-        assertThat(actual).containsExactly("Hello world!", "foo", "bar");
+        var actual = Files.readString(tmpFile.toPath(), StandardCharsets.UTF_8);
+        assertThat(actual).isEqualTo("Hello world!\nfoo\nbar");
     }
 }
\ No newline at end of file